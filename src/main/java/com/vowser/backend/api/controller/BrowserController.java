@@ -4,12 +4,23 @@ import com.vowser.backend.api.doc.BrowserApiDocument;
 import com.vowser.backend.api.dto.NavigationDto;
 import com.vowser.backend.application.service.ControlService;
 import com.vowser.backend.common.constants.ApiConstants;
+import com.vowser.backend.common.exception.AuthException;
+import com.vowser.backend.common.exception.BusinessException;
+import com.vowser.backend.common.exception.ErrorCode;
+import com.vowser.backend.infrastructure.control.BrowserCommandEncoder;
+import com.vowser.backend.infrastructure.control.NavigationPathExecutor;
+import com.vowser.backend.infrastructure.security.CustomUserDetails;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.socket.WebSocketSession;
 
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -26,6 +37,8 @@ import java.util.Map;
 public class BrowserController {
 
     private final ControlService controlService;
+    private final BrowserCommandEncoder commandEncoder;
+    private final NavigationPathExecutor pathExecutor;
 
     @BrowserApiDocument.Navigate
     @GetMapping("/navigate")
@@ -35,21 +48,13 @@ public class BrowserController {
                 required = true,
                 example = "https://google.com"
             )
-            @RequestParam String url) {
+            @RequestParam String url,
+            @Parameter(description = "대상 클라이언트 sessionId (생략하면 가장 최근에 연결된 클라이언트)")
+            @RequestParam(required = false) String sessionId) {
         
         log.info("브라우저 네비게이션 요청: URL=[{}]", url);
         
-        Map<String, Object> commandData = Map.of(
-            "type", ApiConstants.BrowserCommands.NAVIGATE,
-            "url", url
-        );
-        
-        Map<String, Object> command = Map.of(
-            "type", ApiConstants.BrowserCommands.BROWSER_COMMAND_TYPE,
-            "data", commandData
-        );
-        
-        controlService.sendCommandToClient(command);
+        controlService.sendCommandToClient(sessionId, commandEncoder.navigate(url));
         
         String message = String.format("Navigate command sent to client with URL: %s", url);
         log.info("네비게이션 명령 전송 완료: {}", message);
@@ -59,16 +64,12 @@ public class BrowserController {
 
    @BrowserApiDocument.GoBack
     @GetMapping("/go-back")
-    public Map<String, String> goBack() {
+    public Map<String, String> goBack(
+            @Parameter(description = "대상 클라이언트 sessionId (생략하면 가장 최근에 연결된 클라이언트)")
+            @RequestParam(required = false) String sessionId) {
         log.info("브라우저 뒤로가기 요청");
         
-        Map<String, Object> commandData = Map.of("type", ApiConstants.BrowserCommands.GO_BACK);
-        Map<String, Object> command = Map.of(
-            "type", ApiConstants.BrowserCommands.BROWSER_COMMAND_TYPE,
-            "data", commandData
-        );
-        
-        controlService.sendCommandToClient(command);
+        controlService.sendCommandToClient(sessionId, commandEncoder.goBack());
         
         String message = "GoBack command sent to client.";
         log.info("뒤로가기 명령 전송 완료");
@@ -78,16 +79,12 @@ public class BrowserController {
 
     @BrowserApiDocument.GoForward
     @GetMapping("/go-forward")
-    public Map<String, String> goForward() {
+    public Map<String, String> goForward(
+            @Parameter(description = "대상 클라이언트 sessionId (생략하면 가장 최근에 연결된 클라이언트)")
+            @RequestParam(required = false) String sessionId) {
         log.info("브라우저 앞으로가기 요청");
         
-        Map<String, Object> commandData = Map.of("type", ApiConstants.BrowserCommands.GO_FORWARD);
-        Map<String, Object> command = Map.of(
-            "type", ApiConstants.BrowserCommands.BROWSER_COMMAND_TYPE,
-            "data", commandData
-        );
-        
-        controlService.sendCommandToClient(command);
+        controlService.sendCommandToClient(sessionId, commandEncoder.goForward());
         
         String message = "GoForward command sent to client.";
         log.info("앞으로가기 명령 전송 완료");
@@ -98,7 +95,14 @@ public class BrowserController {
     @BrowserApiDocument.SendNavigationPath
     @PostMapping("/send-navigation-path")
     public Map<String, Object> sendNavigationPath(
-            @RequestBody NavigationDto.AllPathsResponse allPaths) {
+            @RequestBody NavigationDto.AllPathsResponse allPaths,
+            @Parameter(description = "대상 클라이언트 sessionId (생략하면 가장 최근에 연결된 클라이언트)")
+            @RequestParam(required = false) String sessionId,
+            @Parameter(description = "여러 클라이언트로 보낼 때의 sessionId 목록 (sessionId보다 우선)")
+            @RequestParam(required = false) List<String> sessionIds,
+            @Parameter(description = "true면 로그인한 회원의 연결된 모든 기기로 전송")
+            @RequestParam(defaultValue = "false") boolean allDevices,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
         
         log.info("복합 네비게이션 경로 전송 요청: query=[{}], pathCount=[{}]", 
                 allPaths.getQuery(), allPaths.getPaths().size());
@@ -108,15 +112,76 @@ public class BrowserController {
             "data", allPaths
         );
         
-        controlService.sendCommandToClient(command);
+        Integer deliveredCount = null;
+        if (sessionIds != null && !sessionIds.isEmpty()) {
+            deliveredCount = controlService.sendCommandToSessions(sessionIds, command);
+        } else if (allDevices) {
+            if (userDetails == null) {
+                throw AuthException.unauthorized();
+            }
+            deliveredCount = controlService.sendCommandToUser(userDetails.getUsername(), command);
+        } else {
+            controlService.sendCommandToClient(sessionId, command);
+        }
         
         String message = String.format("All navigation paths for query '%s' sent.", allPaths.getQuery());
-        log.info("복합 네비게이션 경로 전송 완료: query=[{}], pathCount=[{}]", 
-                allPaths.getQuery(), allPaths.getPaths().size());
-        
-        return Map.of(
-            ApiConstants.RESPONSE_KEY_MESSAGE, message,
-            ApiConstants.RESPONSE_KEY_PATH_COUNT, allPaths.getPaths().size()
-        );
+        log.info("복합 네비게이션 경로 전송 완료: query=[{}], pathCount=[{}], deliveredCount=[{}]", 
+                allPaths.getQuery(), allPaths.getPaths().size(), deliveredCount);
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put(ApiConstants.RESPONSE_KEY_MESSAGE, message);
+        response.put(ApiConstants.RESPONSE_KEY_PATH_COUNT, allPaths.getPaths().size());
+        if (deliveredCount != null) {
+            response.put(ApiConstants.RESPONSE_KEY_DELIVERED_COUNT, deliveredCount);
+        }
+        return response;
+    }
+
+    @BrowserApiDocument.ExecuteNavigationPath
+    @PostMapping("/execute-navigation-path")
+    public Map<String, Object> executeNavigationPath(
+            @RequestBody NavigationDto.AllPathsResponse allPaths,
+            @Parameter(description = "실행할 경로 ID (생략하면 점수가 가장 높은 경로)")
+            @RequestParam(required = false) String pathId,
+            @Parameter(description = "대상 클라이언트 sessionId (생략하면 가장 최근에 연결된 클라이언트)")
+            @RequestParam(required = false) String sessionId) {
+        
+        NavigationDto.PathDetail path = selectPath(allPaths, pathId);
+        WebSocketSession session = controlService.getLocalSession(sessionId);
+        // 단계 확인 응답은 세션이 연결된 인스턴스로 들어오므로 실행도 그 인스턴스에서만 시작할 수 있음
+        if (session == null && controlService.isRemoteSession(sessionId)) {
+            throw new BusinessException(ErrorCode.CONTROL_SESSION_ON_OTHER_NODE,
+                    "세션이 연결된 인스턴스로 다시 요청해야 합니다: " + sessionId);
+        }
+        if (session == null) {
+            throw new BusinessException(ErrorCode.RESOURCE_NOT_FOUND, "연결된 클라이언트 세션이 없습니다: " + sessionId);
+        }
+        
+        List<NavigationDto.NavigationStep> steps = path.getSteps() != null ? path.getSteps() : List.of();
+        NavigationPathExecutor.PathExecution execution = pathExecutor.start(session, steps);
+        
+        log.info("네비게이션 경로 실행 시작: query=[{}], pathId=[{}], stepCount=[{}], executionId=[{}]",
+                allPaths.getQuery(), path.getPathId(), steps.size(), execution.executionId());
+        
+        Map<String, Object> response = new HashMap<>();
+        response.put(ApiConstants.RESPONSE_KEY_MESSAGE,
+                String.format("Navigation path '%s' execution started.", path.getPathId()));
+        response.put(ApiConstants.RESPONSE_KEY_EXECUTION_ID, execution.executionId());
+        response.put(ApiConstants.RESPONSE_KEY_PATH_ID, path.getPathId());
+        response.put(ApiConstants.RESPONSE_KEY_STEP_COUNT, steps.size());
+        return response;
+    }
+
+    /**
+     * pathId가 일치하는 경로, 없으면 점수가 가장 높은 경로를 선택
+     */
+    private NavigationDto.PathDetail selectPath(NavigationDto.AllPathsResponse allPaths, String pathId) {
+        List<NavigationDto.PathDetail> paths = allPaths.getPaths() != null ? allPaths.getPaths() : List.of();
+        return paths.stream()
+                .filter(path -> pathId == null || pathId.equals(path.getPathId()))
+                .max(Comparator.comparing(NavigationDto.PathDetail::getScore,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .orElseThrow(() -> new BusinessException(ErrorCode.RESOURCE_NOT_FOUND,
+                        "실행할 네비게이션 경로가 없습니다: " + pathId));
     }
-}
\ No newline at end of file
+}
@@ -2,17 +2,22 @@ package com.vowser.backend.api.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vowser.backend.api.dto.mcp.*;
+import com.vowser.backend.common.exception.McpException;
 import com.vowser.backend.infrastructure.mcp.McpWebSocketClient;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * MCP 서버 경로 관리 API 컨트롤러
@@ -24,6 +29,11 @@ import java.util.concurrent.CompletableFuture;
 @RequiredArgsConstructor
 public class PathManagementController {
 
+    private static final MediaType JSON_UTF8 = new MediaType(MediaType.APPLICATION_JSON, StandardCharsets.UTF_8);
+    private static final byte[] SEARCH_ERROR_BODY =
+            "{\"error\":\"Failed to get response from server\"}".getBytes(StandardCharsets.UTF_8);
+    private static final int PAYLOAD_LOG_SAMPLE_RATE = 100;
+
     private final McpWebSocketClient mcpClient;
 
     /**
@@ -42,26 +52,42 @@ public class PathManagementController {
 
     /**
      * 자연어 경로 검색
+     * MCP 응답 바이트를 문자열로 바꾸거나 다시 인코딩하지 않고 그대로 응답 본문에 씀
      *
      * GET /api/v1/paths/search?query=유튜브 음악&limit=3&domain=youtube.com
      */
     @Operation(summary = "경로 검색", description = "자연어 쿼리로 경로를 검색")
     @GetMapping("/search")
-    public CompletableFuture<ResponseEntity<String>> searchPath(
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> searchPath(
             @RequestParam String query,
             @RequestParam(defaultValue = "3") int limit,
             @RequestParam(required = false) String domain) {
 
         log.info("Received search request: query=[{}], domain=[{}]", query, domain);
 
-        return mcpClient.searchPath(query, limit, domain).thenApply(jsonString -> {
-            log.info("Relaying raw JSON response to client: {}", jsonString);
-            HttpHeaders headers = new HttpHeaders();
-            headers.add(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
-            return new ResponseEntity<>(jsonString, headers, HttpStatus.OK);
+        return mcpClient.searchPathRaw(query, limit, domain).thenApply(payload -> {
+            log.debug("Relaying raw JSON response to client: bytes=[{}]", payload.size());
+            if (log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(PAYLOAD_LOG_SAMPLE_RATE) == 0) {
+                log.debug("Sampled search response payload: {}", payload.utf8());
+            }
+
+            StreamingResponseBody body = payload::write;
+            return ResponseEntity.ok()
+                    .contentType(JSON_UTF8)
+                    .contentLength(payload.size())
+                    .body(body);
         }).exceptionally(throwable -> {
+            Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null
+                    ? throwable.getCause() : throwable;
+            if (cause instanceof McpException mcpException) {
+                // 과부하 등 MCP 오류는 GlobalExceptionHandler에서 상태 코드와 함께 응답
+                throw mcpException;
+            }
             log.error("Failed to get search path response from MCP", throwable);
-            return new ResponseEntity<>("{\"error\":\"Failed to get response from server\"}", HttpStatus.INTERNAL_SERVER_ERROR);
+            StreamingResponseBody body = outputStream -> outputStream.write(SEARCH_ERROR_BODY);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .contentType(JSON_UTF8)
+                    .body(body);
         });
     }
 
@@ -82,7 +82,7 @@ public @interface BrowserApiDocument {
 
     @Operation(
             summary = "복합 네비게이션 경로 전송",
-            description = "여러 경로가 포함된 AllPathsResponse를 받아 클라이언트에게 전송합니다."
+            description = "여러 경로가 포함된 AllPathsResponse를 받아 클라이언트에게 전송합니다. sessionIds나 allDevices를 지정하면 여러 클라이언트로 한 번에 전송합니다."
     )
     @ApiResponses({
             @ApiResponse(
@@ -100,4 +100,33 @@ public @interface BrowserApiDocument {
     @Target(ElementType.METHOD)
     @Retention(RetentionPolicy.RUNTIME)
     @interface SendNavigationPath {}
+
+
+    @Operation(
+            summary = "네비게이션 경로 실행",
+            description = "AllPathsResponse에서 경로 하나를 골라 단계별로 클라이언트에 전송하고, 클라이언트의 단계 확인 응답(navigation_step_ack)으로 진행 상황을 추적합니다. 실행 결과는 navigation_execution_result 메시지로 전송됩니다. 클러스터 모드에서는 클라이언트 세션이 연결된 인스턴스에서만 실행할 수 있습니다."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "경로 실행이 시작됨",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            examples = @ExampleObject(
+                                    value = "{\n \"message\": \"Navigation path 'path_1' execution started.\",\n \"executionId\": \"3f2a...\",\n \"pathId\": \"path_1\",\n \"stepCount\": 3\n}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "실행할 경로나 연결된 클라이언트 세션이 없음"
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "클라이언트 세션이 다른 서버 인스턴스에 연결되어 있음 (클러스터 모드)"
+            )
+    })
+    @Target(ElementType.METHOD)
+    @Retention(RetentionPolicy.RUNTIME)
+    @interface ExecuteNavigationPath {}
 }
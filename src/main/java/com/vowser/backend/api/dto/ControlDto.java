@@ -1,5 +1,7 @@
 package com.vowser.backend.api.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonSubTypes;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.vowser.backend.common.constants.ApiConstants;
@@ -128,7 +130,12 @@ public class ControlDto {
         private String sessionId;
         private String task;
         private List<ContributionStep> steps;
+        // 클라이언트는 isPartial/isComplete로 보내고, outbox에는 partial/complete로 저장됨
+        @JsonProperty("partial")
+        @JsonAlias("isPartial")
         private boolean isPartial = false;
+        @JsonProperty("complete")
+        @JsonAlias("isComplete")
         private boolean isComplete = false;
         private int totalSteps = 0;
     }
@@ -161,4 +168,67 @@ public class ControlDto {
         private String message;
         private int savedSteps;
     }
-}
\ No newline at end of file
+
+    /**
+     * 연결 직후 보내는 세션 정보
+     * 같은 sessionId로 다시 연결할 때 reconnectToken을 쿼리 파라미터로 넘기면 끊긴 이전 세션을 바로 대체함
+     * (토큰은 연결마다 새로 발급됨)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionInfo {
+        private String type = "session_info";
+        private String sessionId;
+        private String reconnectToken;
+    }
+
+    /**
+     * 경로 실행 중 클라이언트로 보내는 단계 명령
+     * attempt는 같은 단계를 다시 보낼 때마다 증가하며, 확인 응답에 그대로 돌려받음
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NavigationStepCommand {
+        private String type = "navigation_step";
+        private String executionId;
+        private int stepIndex;
+        private int totalSteps;
+        private int attempt;
+        private NavigationDto.NavigationStep step;
+    }
+
+    /**
+     * 클라이언트가 단계 실행 후 보내는 확인 응답
+     * 실패를 보낸 클라이언트는 그 단계 이후로 이미 받은 단계를 버리고 재전송을 기다림
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NavigationStepAck {
+        private String type = "navigation_step_ack";
+        private String executionId;
+        private int stepIndex;
+        private int attempt;
+        private boolean success;
+        private String error;
+    }
+
+    /**
+     * 경로 실행 결과 (단계별 소요 시간 포함)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class NavigationExecutionResult {
+        private String type = "navigation_execution_result";
+        private String executionId;
+        private boolean success;
+        private int completedSteps;
+        private int totalSteps;
+        private Integer failedStepIndex;
+        private String message;
+        private List<Long> stepLatenciesMillis;
+    }
+}
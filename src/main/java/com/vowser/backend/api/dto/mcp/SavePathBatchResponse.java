@@ -0,0 +1,47 @@
+package com.vowser.backend.api.dto.mcp;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * MCP 서버 경로 일괄 저장 응답
+ * results는 요청한 경로 순서와 같음
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SavePathBatchResponse {
+    private String type;
+    private String status;
+    private SavePathBatchData data;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SavePathBatchData {
+        private List<SavePathBatchItem> results;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class SavePathBatchItem {
+        private String status;
+        private String message;
+        private SavePathResponse.SavePathResult result;
+
+        /**
+         * 단건 저장 응답 형태로 변환
+         */
+        public SavePathResponse toSavePathResponse(String type) {
+            return new SavePathResponse(type, status, new SavePathResponse.SavePathData(message, result));
+        }
+    }
+}
@@ -0,0 +1,315 @@
+package com.vowser.backend.application.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.common.enums.OutboxStatus;
+import com.vowser.backend.domain.contribution.entity.ContributionOutbox;
+import com.vowser.backend.domain.contribution.repository.ContributionOutboxRepository;
+import com.vowser.backend.infrastructure.config.McpConfig;
+import com.vowser.backend.infrastructure.mcp.McpWebSocketClient;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기여모드 데이터 outbox 서비스
+ *
+ * 기여 데이터는 먼저 DB에 저장하고 바로 응답하며, MCP 서버 전송은 스케줄러가 배치로 처리
+ * MCP 연결이 끊긴 동안 쌓인 데이터는 재연결 후 저장 순서대로 전송됨
+ * 전송할 항목은 잠가서 점유하므로 여러 인스턴스가 같은 항목을 동시에 보내지 않고,
+ * MCP 서버가 성공으로 응답한 항목만 전송 완료로 기록함
+ * 같은 내용은 해시로 한 번만 저장하고, MCP 서버에는 contributionId로 전달하여 재전송 시 중복을 걸러낼 수 있게 함
+ */
+@Slf4j
+@Service
+public class ContributionOutboxService {
+
+    private final ContributionOutboxRepository outboxRepository;
+    private final McpWebSocketClient mcpWebSocketClient;
+    private final ObjectMapper objectMapper;
+    private final McpConfig.Outbox outboxConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    // 저장과 전송 결과 기록은 DB를 쓰므로 WebSocket I/O 스레드나 MCP 응답 스레드가 아닌 가상 스레드에서 처리
+    private final ExecutorService workers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("mcp-outbox-", 0).factory());
+    // 기여모드 sessionId별로 마지막 저장 작업 (같은 세션의 데이터는 도착 순서대로 저장)
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> enqueueTails = new ConcurrentHashMap<>();
+
+    private final AtomicLong pendingDepth = new AtomicLong();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    private final Counter enqueuedCounter;
+    private final Counter duplicateCounter;
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+
+    public ContributionOutboxService(ContributionOutboxRepository outboxRepository,
+                                     McpWebSocketClient mcpWebSocketClient,
+                                     ObjectMapper objectMapper,
+                                     McpConfig mcpConfig,
+                                     MeterRegistry meterRegistry,
+                                     PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.mcpWebSocketClient = mcpWebSocketClient;
+        this.objectMapper = objectMapper;
+        this.outboxConfig = mcpConfig.getOutbox();
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("mcp.outbox.depth", pendingDepth, AtomicLong::get)
+                .description("MCP 서버 전송을 기다리는 기여모드 데이터 수")
+                .register(meterRegistry);
+        Gauge.builder("mcp.outbox.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .description("가장 오래 전송을 기다린 기여모드 데이터의 대기 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.enqueuedCounter = meterRegistry.counter("mcp.outbox.enqueued", "result", "stored");
+        this.duplicateCounter = meterRegistry.counter("mcp.outbox.enqueued", "result", "duplicate");
+        this.sentCounter = meterRegistry.counter("mcp.outbox.sent");
+        this.retriedCounter = meterRegistry.counter("mcp.outbox.retried");
+        this.failedCounter = meterRegistry.counter("mcp.outbox.failed");
+    }
+
+    /**
+     * 기여모드 데이터를 호출 스레드 밖에서 outbox에 저장
+     * 같은 기여모드 sessionId의 데이터는 도착 순서대로 저장됨
+     *
+     * @return 새로 저장되었으면 true, 이미 저장된 내용이면 false로 완료 (검증 실패는 예외로 완료)
+     */
+    public CompletableFuture<Boolean> enqueueAsync(ControlDto.ContributionMessage contributionMessage) {
+        String key = Objects.requireNonNullElse(contributionMessage.getSessionId(), "");
+        CompletableFuture<Boolean> stored = enqueueTails.compute(key, (ignored, tail) ->
+                (tail != null ? tail.exceptionally(ex -> false) : CompletableFuture.completedFuture(false))
+                        .thenApplyAsync(previous -> enqueue(contributionMessage), workers));
+        stored.whenComplete((result, ex) -> enqueueTails.remove(key, stored));
+        return stored;
+    }
+
+    /**
+     * 기여모드 데이터를 outbox에 저장
+     *
+     * @return 새로 저장되었으면 true, 이미 저장된 내용이면 false
+     */
+    public boolean enqueue(ControlDto.ContributionMessage contributionMessage) {
+        if (contributionMessage.getSteps() == null || contributionMessage.getSteps().isEmpty()) {
+            throw new IllegalArgumentException("기여모드 단계가 비어 있습니다");
+        }
+
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(contributionMessage);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("기여모드 데이터를 직렬화할 수 없습니다", e);
+        }
+
+        String dedupKey = sha256(payload);
+        if (outboxRepository.existsByDedupKey(dedupKey)) {
+            duplicateCounter.increment();
+            log.info("이미 저장된 기여모드 데이터입니다: sessionId=[{}], dedupKey=[{}]",
+                    contributionMessage.getSessionId(), dedupKey);
+            return false;
+        }
+
+        try {
+            outboxRepository.save(ContributionOutbox.builder()
+                    .dedupKey(dedupKey)
+                    .sessionId(contributionMessage.getSessionId())
+                    .payload(payload)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 들어온 경우 유니크 인덱스가 하나만 남김
+            duplicateCounter.increment();
+            return false;
+        }
+
+        enqueuedCounter.increment();
+        pendingDepth.incrementAndGet();
+        log.info("기여모드 데이터 outbox 저장: sessionId=[{}], stepCount=[{}]",
+                contributionMessage.getSessionId(), contributionMessage.getSteps().size());
+        return true;
+    }
+
+    /**
+     * 대기 중인 기여모드 데이터를 MCP 서버로 배치 전송
+     * 이전 배치의 응답을 기다리는 중이거나 연결이 없으면 다음 주기에 이어서 전송
+     */
+    @Scheduled(fixedDelayString = "${mcp.outbox.drain-interval:1s}")
+    public void drain() {
+        if (!mcpWebSocketClient.isConnected() || !draining.compareAndSet(false, true)) {
+            return;
+        }
+        drainBatch().whenComplete((ignored, ex) -> draining.set(false));
+    }
+
+    /**
+     * 한 페이지를 점유하여 하나의 요청으로 전송하고, MCP 서버의 응답에 따라 결과를 기록
+     * 성공 응답을 받은 항목만 SENT로 바꾸고, 실패하면 PENDING으로 두고 재시도 시각을 늦춤
+     *
+     * @return 결과 기록까지 끝나면 완료
+     */
+    CompletableFuture<Void> drainBatch() {
+        Claim claim;
+        try {
+            claim = transactionTemplate.execute(status -> claim(LocalDateTime.now()));
+        } catch (RuntimeException e) {
+            log.error("기여모드 outbox 항목 점유 실패", e);
+            refreshMetrics();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (claim.contributions().isEmpty()) {
+            refreshMetrics();
+            return CompletableFuture.completedFuture(null);
+        }
+
+        return mcpWebSocketClient.saveContributions(claim.contributions())
+                .handleAsync((saved, ex) -> {
+                    try {
+                        transactionTemplate.executeWithoutResult(status -> complete(claim, saved, ex));
+                    } catch (RuntimeException e) {
+                        // 점유 기한이 지나면 다시 전송되므로 기록만 남김
+                        log.error("기여모드 outbox 전송 결과 기록 실패: ids=[{}]", claim.ids(), e);
+                    } finally {
+                        refreshMetrics();
+                    }
+                    return null;
+                }, workers);
+    }
+
+    /**
+     * 전송할 항목을 잠가서 가져오고 점유 기한을 기록
+     * 읽을 수 없는 항목은 FAILED로 바꾸고 전송 대상에서 뺌
+     */
+    private Claim claim(LocalDateTime now) {
+        List<ContributionOutbox> batch = outboxRepository.findClaimable(
+                OutboxStatus.PENDING, now, PageRequest.of(0, outboxConfig.getBatchSize()));
+
+        LocalDateTime leaseUntil = now.plus(outboxConfig.getClaimTimeout());
+        Map<Long, String> ids = new LinkedHashMap<>();
+        Map<String, ControlDto.ContributionMessage> contributions = new LinkedHashMap<>();
+        for (ContributionOutbox entry : batch) {
+            try {
+                contributions.put(entry.getDedupKey(),
+                        objectMapper.readValue(entry.getPayload(), ControlDto.ContributionMessage.class));
+            } catch (JsonProcessingException e) {
+                log.error("outbox 기여모드 데이터를 읽을 수 없어 실패로 처리합니다: outboxId=[{}]", entry.getId(), e);
+                entry.markFailed();
+                failedCounter.increment();
+                continue;
+            }
+            entry.claim(leaseUntil);
+            ids.put(entry.getId(), entry.getDedupKey());
+        }
+        return new Claim(ids, contributions);
+    }
+
+    /**
+     * 전송 결과를 기록 (점유한 항목을 다시 읽어서 갱신)
+     * 저장된 항목은 SENT로 바꾸고, 나머지는 PENDING으로 두고 재시도 시각을 늦춤
+     *
+     * @param saved 저장된 항목의 contributionId (실패했으면 null)
+     * @param ex 실패 원인 (성공했으면 null)
+     */
+    private void complete(Claim claim, Set<String> saved, Throwable ex) {
+        LocalDateTime now = LocalDateTime.now();
+        int sent = 0;
+        int retried = 0;
+        for (ContributionOutbox entry : outboxRepository.findAllById(claim.ids().keySet())) {
+            if (ex == null && saved.contains(entry.getDedupKey())) {
+                entry.markSent(now);
+                sent++;
+            } else {
+                entry.retryAt(now.plus(backoff(entry.getAttempts())));
+                retried++;
+            }
+        }
+        sentCounter.increment(sent);
+        retriedCounter.increment(retried);
+
+        if (ex != null) {
+            Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+            log.warn("기여모드 outbox 전송 실패, 나중에 다시 전송합니다: count=[{}], reason=[{}]",
+                    retried, cause.getMessage());
+        } else {
+            log.info("기여모드 outbox 전송: sent=[{}], retried=[{}]", sent, retried);
+        }
+    }
+
+    /**
+     * 실패할 때마다 두 배로 늘어나는 재시도 대기 시간 (상한 있음)
+     */
+    private Duration backoff(int attempts) {
+        Duration delay = outboxConfig.getRetryBackoff().multipliedBy(1L << Math.min(Math.max(attempts - 1, 0), 20));
+        return delay.compareTo(outboxConfig.getMaxRetryBackoff()) > 0 ? outboxConfig.getMaxRetryBackoff() : delay;
+    }
+
+    /**
+     * 전송이 끝난 지 보관 기간이 지난 항목을 정리
+     */
+    @Scheduled(fixedDelayString = "${mcp.outbox.purge-interval:10m}")
+    @Transactional
+    public void purgeSent() {
+        LocalDateTime before = LocalDateTime.now().minus(outboxConfig.getRetention());
+        int deleted = outboxRepository.deleteByStatusAndSentAtBefore(OutboxStatus.SENT, before);
+        if (deleted > 0) {
+            log.info("전송 완료된 기여모드 outbox 정리: deleted=[{}]", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private void refreshMetrics() {
+        pendingDepth.set(outboxRepository.countByStatus(OutboxStatus.PENDING));
+        oldestPendingAgeSeconds.set(outboxRepository.findFirstByStatusOrderByIdAsc(OutboxStatus.PENDING)
+                .map(ContributionOutbox::getCreatedAt)
+                .map(createdAt -> Math.max(0, Duration.between(createdAt, LocalDateTime.now()).toSeconds()))
+                .orElse(0L));
+    }
+
+    /**
+     * 점유한 항목(ID → contributionId)과 전송할 기여모드 메시지 (contributionId 순서 = outbox 저장 순서)
+     */
+    private record Claim(Map<Long, String> ids, Map<String, ControlDto.ContributionMessage> contributions) {
+    }
+
+    private static String sha256(String value) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -2,19 +2,58 @@ package com.vowser.backend.application.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import com.vowser.backend.infrastructure.control.ControlSessionDirectory;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.OverflowPolicy;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.SharedMessage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.util.UriComponentsBuilder;
 
-import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.Principal;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
 
 /**
  * 백엔드, MCP 서버, 그리고 연결된 클라이언트 간의 통신을 관리하고
  * WebSocket 세션을 관리
+ *
+ * 세션은 클라이언트가 연결 시 전달한 sessionId(/control?sessionId=...)로 색인하며,
+ * 음성 명령 등에 같은 sessionId를 사용하면 MCP 응답이 해당 클라이언트로만 전달됨
+ * sessionId를 전달하지 않은 세션은 WebSocket 세션 ID로 색인
+ * 다른 사용자의 열린 세션이 쓰고 있는 sessionId로는 연결할 수 없음
+ *
+ * 클러스터 모드에서는 세션 위치를 ControlSessionDirectory에 공유하여,
+ * 다른 인스턴스에 연결된 클라이언트로 보낼 메시지를 해당 인스턴스로 전달
+ *
+ * 실제 전송은 ControlSessionOutbound의 세션별 대기열을 거치므로 호출 스레드가 느린 클라이언트에 막히지 않음
+ * 명령과 MCP 응답은 유실되면 안 되므로 버퍼가 가득 차면 세션을 닫아 클라이언트가 다시 연결하도록 함
+ *
+ * 한 사용자의 모든 기기나 여러 세션으로 같은 명령을 보낼 때는 한 번만 직렬화한 메시지를 각 세션 대기열에 넣으며,
+ * 실제 전송은 세션별 writer가 병렬로 수행하고 한 대상의 실패가 나머지 대상 전송을 막지 않음
+ *
+ * 주기적으로 세션을 점검하여 조용한 세션에는 ping을 보내고, 응답 없이 idle 시간을 넘긴 세션은
+ * 끊긴 연결(half-open)로 보고 닫아서 레지스트리에서 제거
  */
 
 @Slf4j
@@ -22,18 +61,132 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class ControlService {
 
+    private static final String SESSION_ID_PARAM = "sessionId";
+    private static final String RECONNECT_TOKEN_PARAM = "reconnectToken";
+    private static final String RECONNECT_TOKEN_ATTRIBUTE = "vowser.reconnectToken";
+    private static final String ROUTING_KEY_ATTRIBUTE = "vowser.routingKey";
+    private static final String CONNECTED_AT_ATTRIBUTE = "vowser.connectedAt";
+    private static final String LAST_ACTIVITY_ATTRIBUTE = "vowser.lastActivity";
+    private static final String USER_ATTRIBUTE = "vowser.user";
+    private static final String ANONYMOUS_USER = "anonymous";
+
     private final ObjectMapper objectMapper;
+    private final ControlSessionDirectory sessionDirectory;
+    private final ControlSessionOutbound sessionOutbound;
+    private final ControlConfig controlConfig;
+    private final MeterRegistry meterRegistry;
     private final ConcurrentHashMap<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+    private volatile WebSocketSession lastConnected;
+
+    // 세션 등록/해제 시에만 갱신하여 도구 사용 가능 여부 확인을 상수 시간으로 처리
+    private final AtomicInteger activeSessions = new AtomicInteger();
+    private final ConcurrentHashMap<String, Set<WebSocketSession>> sessionsByUser = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void initialize() {
+        sessionDirectory.subscribe(this::deliverForwarded);
+        Gauge.builder("control.sessions.active", activeSessions, AtomicInteger::get)
+                .description("등록된 제어 WebSocket 세션 수")
+                .register(meterRegistry);
+    }
 
     /**
      * 새로운 WebSocket 세션을 등록
      *
+     * 같은 sessionId가 열린 세션에 쓰이고 있으면 같은 인증 사용자이거나, 이전 세션에 발급한 재연결 토큰
+     * (?reconnectToken=...)을 제시한 재연결일 때만 이전 세션을 닫고 대체함
+     * 끊긴 줄 모르는(half-open) 이전 세션이 남아 있어도 익명 클라이언트가 바로 다시 연결할 수 있고,
+     * 토큰을 모르는 다른 클라이언트는 sessionId를 가져가지 못하여 응답을 가로챌 수 없음
+     * (닫힌 이전 세션은 누구든 대체할 수 있음)
+     *
      * @param session 등록할 WebSocket 세션
+     * @return 등록되었으면 true, sessionId가 다른 사용자의 세션에 쓰이고 있어 거부하고 닫았으면 false
      */
-    public void registerSession(WebSocketSession session) {
-        sessions.put(session.getId(), session);
-        log.info("웹소켓 세션 등록: sessionId=[{}], totalSessions=[{}]", 
-                session.getId(), sessions.size());
+    public boolean registerSession(WebSocketSession session) {
+        String routingKey = resolveRoutingKey(session);
+        String user = resolveUser(session);
+        long now = System.nanoTime();
+        session.getAttributes().put(CONNECTED_AT_ATTRIBUTE, now);
+        session.getAttributes().put(LAST_ACTIVITY_ATTRIBUTE, new AtomicLong(now));
+        session.getAttributes().put(USER_ATTRIBUTE, user);
+        String presentedToken = resolveQueryParam(session, RECONNECT_TOKEN_PARAM);
+        session.getAttributes().put(RECONNECT_TOKEN_ATTRIBUTE, UUID.randomUUID().toString());
+
+        WebSocketSession[] existing = new WebSocketSession[1];
+        WebSocketSession registered = sessions.compute(routingKey, (key, current) -> {
+            existing[0] = current;
+            return current == null || current == session || canTakeOver(current, user, presentedToken)
+                    ? session : current;
+        });
+        WebSocketSession previous = existing[0];
+
+        if (registered != session) {
+            log.warn("다른 사용자가 사용 중인 sessionId로 연결을 시도하여 거부: routingKey=[{}], sessionId=[{}], user=[{}]",
+                    routingKey, session.getId(), user);
+            meterRegistry.counter("control.session.rejected", "reason", "session_id_in_use").increment();
+            sessionOutbound.close(session, CloseStatus.POLICY_VIOLATION.withReason("sessionId already in use"));
+            return false;
+        }
+
+        session.getAttributes().put(ROUTING_KEY_ATTRIBUTE, routingKey);
+        if (previous == null) {
+            activeSessions.incrementAndGet();
+            indexUser(session, true);
+        } else if (previous != session) {
+            log.info("같은 sessionId로 다시 연결되어 이전 세션을 닫고 대체: routingKey=[{}], previousSessionId=[{}]",
+                    routingKey, previous.getId());
+            indexUser(previous, false);
+            indexUser(session, true);
+            if (lastConnected == previous) {
+                lastConnected = null;
+            }
+            // 대체된 세션은 레지스트리에 없어 하트비트 점검 대상이 아니므로 바로 닫음
+            if (previous.isOpen()) {
+                sessionOutbound.close(previous, CloseStatus.NORMAL.withReason("replaced by new connection"));
+            } else {
+                sessionOutbound.release(previous);
+            }
+        }
+        sessionDirectory.register(routingKey);
+        lastConnected = session;
+        log.info("웹소켓 세션 등록: sessionId=[{}], routingKey=[{}], totalSessions=[{}]",
+                session.getId(), routingKey, sessions.size());
+        return true;
+    }
+
+    /**
+     * 열린 세션이 쓰고 있는 sessionId를 새 연결이 가져갈 수 있는지 확인
+     * 이전 세션이 닫혔거나, 둘 다 같은 인증 사용자이거나, 이전 세션의 재연결 토큰을 제시했을 때 허용
+     * (익명끼리는 토큰으로만 같은 클라이언트인지 확인할 수 있음)
+     */
+    private boolean canTakeOver(WebSocketSession current, String user, String presentedToken) {
+        if (!current.isOpen()) {
+            return true;
+        }
+        if (!ANONYMOUS_USER.equals(user) && user.equals(current.getAttributes().get(USER_ATTRIBUTE))) {
+            return true;
+        }
+        return presentedToken != null
+                && current.getAttributes().get(RECONNECT_TOKEN_ATTRIBUTE) instanceof String issued
+                && MessageDigest.isEqual(issued.getBytes(StandardCharsets.UTF_8),
+                        presentedToken.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 등록된 세션의 라우팅 키(sessionId)
+     */
+    public String getRoutingKey(WebSocketSession session) {
+        Object attribute = session.getAttributes().get(ROUTING_KEY_ATTRIBUTE);
+        return attribute != null ? attribute.toString() : session.getId();
+    }
+
+    /**
+     * 세션에 발급한 재연결 토큰
+     * 클라이언트가 같은 sessionId로 다시 연결할 때 제시하면 끊긴 이전 세션을 바로 대체할 수 있음
+     */
+    public String getReconnectToken(WebSocketSession session) {
+        Object attribute = session.getAttributes().get(RECONNECT_TOKEN_ATTRIBUTE);
+        return attribute != null ? attribute.toString() : null;
     }
 
     /**
@@ -42,62 +195,310 @@ public class ControlService {
      * @param session 제거할 WebSocket 세션
      */
     public void unregisterSession(WebSocketSession session) {
-        sessions.remove(session.getId());
+        String routingKey = getRoutingKey(session);
+        // 같은 sessionId로 새로 연결된 세션은 남겨둠
+        if (sessions.remove(routingKey, session)) {
+            activeSessions.decrementAndGet();
+            indexUser(session, false);
+            sessionDirectory.unregister(routingKey);
+            if (session.getAttributes().get(CONNECTED_AT_ATTRIBUTE) instanceof Long connectedAt) {
+                Timer.builder("control.session.lifetime")
+                        .description("제어 WebSocket 세션 연결 유지 시간")
+                        .register(meterRegistry)
+                        .record(System.nanoTime() - connectedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (lastConnected == session) {
+            lastConnected = null;
+        }
+        sessionOutbound.release(session);
         log.info("웹소켓 세션 제거: sessionId=[{}], remainingSessions=[{}]", 
                 session.getId(), sessions.size());
     }
 
     /**
-     * WebSocket을 통해 연결된 클라이언트로 명령을 전송
+     * 클라이언트로부터 메시지나 pong을 받았음을 기록
+     *
+     * @param session 수신한 WebSocket 세션
+     */
+    public void touch(WebSocketSession session) {
+        if (session.getAttributes().get(LAST_ACTIVITY_ATTRIBUTE) instanceof AtomicLong lastActivity) {
+            lastActivity.set(System.nanoTime());
+        }
+    }
+
+    /**
+     * 세션을 점검하여 조용한 세션에는 ping을 보내고, 닫혔거나 idle 시간을 넘긴 세션은 제거
+     */
+    @Scheduled(fixedDelayString = "${control.heartbeat.sweep-interval:10s}")
+    public void sweepSessions() {
+        sweepSessions(System.nanoTime());
+    }
+
+    void sweepSessions(long nowNanos) {
+        long pingAfter = controlConfig.getHeartbeat().getInterval().toNanos();
+        long idleTimeout = controlConfig.getHeartbeat().getIdleTimeout().toNanos();
+
+        int pinged = 0;
+        for (WebSocketSession session : sessions.values()) {
+            if (!session.isOpen()) {
+                evict(session, "closed", CloseStatus.NORMAL);
+                continue;
+            }
+
+            long idle = nowNanos - lastActivityOf(session);
+            if (idle > idleTimeout) {
+                evict(session, "idle", CloseStatus.SESSION_NOT_RELIABLE.withReason("heartbeat timeout"));
+            } else if (idle > pingAfter && sessionOutbound.ping(session)) {
+                pinged++;
+            }
+        }
+
+        if (pinged > 0) {
+            log.debug("하트비트 ping 전송: pingedSessions=[{}], totalSessions=[{}]", pinged, sessions.size());
+        }
+    }
+
+    private void evict(WebSocketSession session, String reason, CloseStatus status) {
+        log.info("응답 없는 웹소켓 세션 정리: sessionId=[{}], reason=[{}]", session.getId(), reason);
+        meterRegistry.counter("control.session.evicted", "reason", reason).increment();
+        unregisterSession(session);
+        if (session.isOpen()) {
+            sessionOutbound.close(session, status);
+        }
+    }
+
+    private long lastActivityOf(WebSocketSession session) {
+        if (session.getAttributes().get(LAST_ACTIVITY_ATTRIBUTE) instanceof AtomicLong lastActivity) {
+            return lastActivity.get();
+        }
+        return System.nanoTime();
+    }
+
+    /**
+     * WebSocket을 통해 가장 최근에 연결된 클라이언트로 명령을 전송
      *
      * @param command 전송할 명령 데이터
      */
     public void sendCommandToClient(Map<String, Object> command) {
-        WebSocketSession session = getLastConnectedSession();
-        
-        if (session == null || !session.isOpen()) {
-            log.warn("명령 전송 실패: 연결된 클라이언트 세션이 없거나 닫혀있습니다. command=[{}]", command);
+        sendCommandToClient(null, command);
+    }
+
+    /**
+     * WebSocket을 통해 지정한 클라이언트로 명령을 전송
+     * 다른 인스턴스에 연결된 세션이면 해당 인스턴스로 전달
+     *
+     * @param sessionId 대상 클라이언트 sessionId (null이면 가장 최근에 연결된 로컬 세션)
+     * @param command 전송할 명령 데이터
+     */
+    public void sendCommandToClient(String sessionId, Map<String, Object> command) {
+        SharedMessage message = serialize(command);
+        if (message != null) {
+            sendCommandToClient(sessionId, message);
+        }
+    }
+
+    /**
+     * 이미 인코딩된 명령을 가장 최근에 연결된 클라이언트로 전송
+     *
+     * @param command BrowserCommandEncoder로 만든 명령 메시지
+     */
+    public void sendCommandToClient(SharedMessage command) {
+        sendCommandToClient(null, command);
+    }
+
+    /**
+     * 이미 인코딩된 명령을 지정한 클라이언트로 전송 (직렬화 없이 메시지를 그대로 대기열에 넣음)
+     *
+     * @param sessionId 대상 클라이언트 sessionId (null이면 가장 최근에 연결된 로컬 세션)
+     * @param command BrowserCommandEncoder로 만든 명령 메시지
+     */
+    public void sendCommandToClient(String sessionId, SharedMessage command) {
+        if (sessionId == null) {
+            WebSocketSession session = getLastConnectedSession();
+            if (session == null) {
+                log.warn("명령 전송 실패: 연결된 클라이언트 세션이 없거나 닫혀있습니다. command=[{}]",
+                        command.message().getPayload());
+                return;
+            }
+            send(session, command, OverflowPolicy.CLOSE);
             return;
         }
 
-        try {
-            String jsonCommand = objectMapper.writeValueAsString(command);
-            session.sendMessage(new TextMessage(jsonCommand));
-            
-            log.info("클라이언트로 명령 전송 완료: sessionId=[{}], command=[{}]", 
-                    session.getId(), jsonCommand);
-                    
-        } catch (JsonProcessingException e) {
-            log.error("명령 직렬화 실패: command=[{}]", command, e);
-        } catch (IOException e) {
-            log.error("명령 전송 중 IO 오류 발생: sessionId=[{}]", session.getId(), e);
-        } catch (Exception e) {
-            log.error("명령 전송 중 예상치 못한 오류 발생: sessionId=[{}]", session.getId(), e);
+        if (!deliver(sessionId, command, OverflowPolicy.CLOSE)) {
+            log.warn("명령 전송 실패: 대상 클라이언트 세션을 찾을 수 없습니다. sessionId=[{}], command=[{}]",
+                    sessionId, command.message().getPayload());
+        }
+    }
+
+    /**
+     * 한 사용자의 이 인스턴스에 연결된 모든 세션으로 같은 명령을 전송
+     * 사용자 색인은 인스턴스별로 관리하므로, 클러스터의 다른 인스턴스에 연결된 기기까지 보내려면
+     * sessionId 목록으로 sendCommandToSessions를 사용
+     *
+     * @param user 사용자 식별자 (WebSocket 핸드셰이크 Principal 이름)
+     * @param command 전송할 명령 데이터
+     * @return 전송 대기열에 넣은 세션 수
+     */
+    public int sendCommandToUser(String user, Map<String, Object> command) {
+        Set<WebSocketSession> userSessions = sessionsByUser.get(user);
+        if (userSessions == null) {
+            log.warn("명령 전송 실패: 사용자의 연결된 클라이언트 세션이 없습니다. user=[{}]", user);
+            return 0;
+        }
+
+        SharedMessage message = serialize(command);
+        if (message == null) {
+            return 0;
+        }
+
+        int delivered = 0;
+        for (WebSocketSession session : userSessions) {
+            if (deliverIsolated(session.getId(), () -> send(session, message, OverflowPolicy.CLOSE))) {
+                delivered++;
+            }
         }
+        return recordFanOut(delivered, userSessions.size());
     }
 
     /**
-     * MCP 서버 응답을 연결된 클라이언트로 중계
+     * 여러 클라이언트로 같은 명령을 전송
+     * 다른 인스턴스에 연결된 세션은 해당 인스턴스로 전달
      *
+     * @param sessionIds 대상 클라이언트 sessionId 목록 (중복은 한 번만 전송)
+     * @param command 전송할 명령 데이터
+     * @return 전송 대기열에 넣거나 다른 인스턴스로 전달한 세션 수
+     */
+    public int sendCommandToSessions(Collection<String> sessionIds, Map<String, Object> command) {
+        SharedMessage message = serialize(command);
+        if (message == null) {
+            return 0;
+        }
+
+        Set<String> targets = new LinkedHashSet<>(sessionIds);
+        int delivered = 0;
+        for (String sessionId : targets) {
+            if (deliverIsolated(sessionId, () -> deliver(sessionId, message, OverflowPolicy.CLOSE))) {
+                delivered++;
+            }
+        }
+        return recordFanOut(delivered, targets.size());
+    }
+
+    /**
+     * MCP 서버 응답을 요청한 클라이언트로 중계
+     * sessionId가 없는 응답은 연결된 로컬 세션이 하나뿐일 때만 그 세션으로 전달
+     * MCP 응답은 검색/저장 결과 자체이므로 명령과 같이 버리지 않고, 버퍼가 가득 차면 세션을 닫음
+     *
+     * @param sessionId 응답에 담긴 sessionId (없으면 null)
      * @param messageJson MCP 서버로부터 수신한 JSON 메시지
      */
-    public void relayMcpResponse(String messageJson) {
-        WebSocketSession session = getLastConnectedSession();
+    public void relayMcpResponse(String sessionId, String messageJson) {
+        boolean delivered;
+        if (sessionId == null) {
+            WebSocketSession session = getOnlySession();
+            delivered = session != null && send(session, SharedMessage.of(messageJson), OverflowPolicy.CLOSE);
+        } else {
+            delivered = deliver(sessionId, SharedMessage.of(messageJson), OverflowPolicy.CLOSE);
+        }
+
+        if (!delivered) {
+            log.warn("MCP 응답 중계 실패: 대상 클라이언트 세션이 없거나 닫혀있습니다. sessionId=[{}]", sessionId);
+        }
+    }
+
+    /**
+     * 세션이 이 인스턴스에 있으면 바로 보내고, 없으면 세션이 연결된 인스턴스로 전달
+     *
+     * @return 전송 또는 전달에 성공하면 true
+     */
+    private boolean deliver(String sessionId, SharedMessage message, OverflowPolicy policy) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session != null && session.isOpen()) {
+            return send(session, message, policy);
+        }
+
+        String owner = sessionDirectory.ownerOf(sessionId);
+        if (owner == null || owner.equals(sessionDirectory.getNodeId())) {
+            return false;
+        }
+        return sessionDirectory.forward(owner, sessionId, message.message().getPayload(), policy);
+    }
 
+    /**
+     * 다중 전송에서 한 대상의 예외가 나머지 대상 전송을 막지 않도록 격리
+     */
+    private boolean deliverIsolated(String target, BooleanSupplier delivery) {
+        try {
+            return delivery.getAsBoolean();
+        } catch (RuntimeException e) {
+            log.warn("다중 전송 중 대상 전송 실패: target=[{}]", target, e);
+            return false;
+        }
+    }
+
+    private int recordFanOut(int delivered, int recipients) {
+        meterRegistry.counter("control.fanout.recipients", "result", "delivered").increment(delivered);
+        meterRegistry.counter("control.fanout.recipients", "result", "failed").increment(recipients - delivered);
+        log.debug("다중 전송 완료: deliveredCount=[{}], recipientCount=[{}]", delivered, recipients);
+        return delivered;
+    }
+
+    private SharedMessage serialize(Map<String, Object> command) {
+        try {
+            return SharedMessage.of(objectMapper.writeValueAsString(command));
+        } catch (JsonProcessingException e) {
+            log.error("명령 직렬화 실패: command=[{}]", command, e);
+            return null;
+        }
+    }
+
+    /**
+     * 다른 인스턴스에서 전달받은 메시지를 로컬 세션으로 전송
+     */
+    private void deliverForwarded(ControlSessionDirectory.Delivery delivery) {
+        WebSocketSession session = sessions.get(delivery.sessionId());
         if (session == null || !session.isOpen()) {
-            log.warn("MCP 응답 중계 실패: 연결된 클라이언트 세션이 없거나 닫혀있습니다.");
+            log.warn("전달받은 메시지 전송 실패: 세션이 이 인스턴스에 없습니다. sessionId=[{}]", delivery.sessionId());
             return;
         }
+        send(session, SharedMessage.of(delivery.payload()), delivery.policy());
+    }
 
-        try {
-            session.sendMessage(new TextMessage(messageJson));
-            log.info("MCP 서버 응답을 클라이언트로 전송 완료: messageLength=[{}]", messageJson.length());
+    private boolean send(WebSocketSession session, SharedMessage message, OverflowPolicy policy) {
+        boolean queued = sessionOutbound.send(session, message, policy);
+        if (queued) {
+            log.debug("클라이언트 전송 대기열에 메시지 추가: sessionId=[{}], messageSize=[{}]",
+                    session.getId(), message.size());
+        }
+        return queued;
+    }
 
-        } catch (IOException e) {
-            log.error("MCP 응답 중계 중 IO 오류 발생", e);
-        } catch (Exception e) {
-            log.error("MCP 응답 중계 중 예상치 못한 오류 발생", e);
+    /**
+     * 연결된 세션이 하나뿐이면 그 세션을 반환 (여러 개면 대상을 알 수 없으므로 null)
+     */
+    private WebSocketSession getOnlySession() {
+        if (activeSessions.get() != 1) {
+            return null;
+        }
+        return sessions.values().stream().findFirst().orElse(null);
+    }
+
+    /**
+     * 연결 URI의 sessionId 파라미터, 없으면 WebSocket 세션 ID
+     */
+    private String resolveRoutingKey(WebSocketSession session) {
+        String sessionId = resolveQueryParam(session, SESSION_ID_PARAM);
+        return sessionId != null ? sessionId : session.getId();
+    }
+
+    private String resolveQueryParam(WebSocketSession session, String name) {
+        URI uri = session.getUri();
+        if (uri == null) {
+            return null;
         }
+        String value = UriComponentsBuilder.fromUri(uri).build().getQueryParams().getFirst(name);
+        return value != null && !value.isBlank() ? value : null;
     }
 
     /**
@@ -106,20 +507,101 @@ public class ControlService {
      * @return 마지막으로 연결된 WebSocket 세션 (없으면 null)
      */
     private WebSocketSession getLastConnectedSession() {
-        return sessions.values().stream()
-                .filter(WebSocketSession::isOpen)
-                .reduce((first, second) -> second)
-                .orElse(null);
+        WebSocketSession last = lastConnected;
+        if (last != null && last.isOpen()) {
+            return last;
+        }
+
+        // 최근 세션이 끊겼을 때만 남은 세션 중 가장 늦게 연결된 세션을 다시 찾음
+        WebSocketSession newest = null;
+        long newestConnectedAt = Long.MIN_VALUE;
+        for (WebSocketSession session : sessions.values()) {
+            if (session.isOpen() && session.getAttributes().get(CONNECTED_AT_ATTRIBUTE) instanceof Long connectedAt
+                    && (newest == null || connectedAt - newestConnectedAt > 0)) {
+                newest = session;
+                newestConnectedAt = connectedAt;
+            }
+        }
+        lastConnected = newest;
+        return newest;
+    }
+
+    /**
+     * 이 인스턴스에 연결된 세션을 찾음 (세션에 직접 단계를 주고받는 경로 실행 등에 사용)
+     *
+     * @param sessionId 대상 클라이언트 sessionId (null이면 가장 최근에 연결된 세션)
+     * @return 열려 있는 로컬 세션 (없으면 null)
+     */
+    public WebSocketSession getLocalSession(String sessionId) {
+        if (sessionId == null) {
+            return getLastConnectedSession();
+        }
+        WebSocketSession session = sessions.get(sessionId);
+        return session != null && session.isOpen() ? session : null;
+    }
+
+    /**
+     * 클러스터 모드에서 세션이 다른 인스턴스에 연결되어 있는지 확인
+     *
+     * @param sessionId 클라이언트 sessionId
+     * @return 다른 인스턴스가 세션을 가지고 있으면 true (로컬 세션이거나 알 수 없으면 false)
+     */
+    public boolean isRemoteSession(String sessionId) {
+        if (sessionId == null || sessions.containsKey(sessionId)) {
+            return false;
+        }
+        String owner = sessionDirectory.ownerOf(sessionId);
+        return owner != null && !owner.equals(sessionDirectory.getNodeId());
     }
 
     /**
      * 모니터링용 현재 활성 세션 수를 반환
+     * 닫힌 세션은 종료 처리와 주기 점검에서 제거되므로 등록된 세션 수와 같음
      *
      * @return 활성 세션 개수
      */
     public int getActiveSessionCount() {
-        return (int) sessions.values().stream()
-                .filter(WebSocketSession::isOpen)
-                .count();
+        return activeSessions.get();
+    }
+
+    /**
+     * 사용자별 활성 세션 수를 반환 (인증 없이 연결된 세션은 사용자별로 색인하지 않으므로 전체 수에만 포함)
+     *
+     * @param user 사용자 식별자 (WebSocket 핸드셰이크 Principal 이름)
+     * @return 활성 세션 개수
+     */
+    public int getActiveSessionCount(String user) {
+        Set<WebSocketSession> userSessions = sessionsByUser.get(user);
+        return userSessions != null ? userSessions.size() : 0;
+    }
+
+    /**
+     * 명령을 받을 수 있는 세션이 있는지 확인 (도구 사용 가능 여부 판단용)
+     */
+    public boolean hasActiveSession() {
+        return activeSessions.get() > 0;
+    }
+
+    private void indexUser(WebSocketSession session, boolean add) {
+        Object user = session.getAttributes().get(USER_ATTRIBUTE);
+        // 익명 세션을 한 키에 모으면 모든 익명 연결/종료가 같은 항목을 두고 경합하므로 전체 카운터로만 관리
+        if (user == null || ANONYMOUS_USER.equals(user)) {
+            return;
+        }
+        // 비면 항목을 제거하여 사용자 수만큼 맵이 계속 커지지 않도록 함
+        sessionsByUser.compute(user.toString(), (key, userSessions) -> {
+            Set<WebSocketSession> updated = userSessions != null ? userSessions : ConcurrentHashMap.newKeySet();
+            if (add) {
+                updated.add(session);
+            } else {
+                updated.remove(session);
+            }
+            return updated.isEmpty() ? null : updated;
+        });
+    }
+
+    private String resolveUser(WebSocketSession session) {
+        Principal principal = session.getPrincipal();
+        return principal != null && principal.getName() != null ? principal.getName() : ANONYMOUS_USER;
     }
 }
\ No newline at end of file
@@ -12,6 +12,10 @@ public final class ApiConstants {
     public static final String RESPONSE_KEY_MESSAGE = "message";
     public static final String RESPONSE_KEY_CONNECTED = "connected";
     public static final String RESPONSE_KEY_PATH_COUNT = "pathCount";
+    public static final String RESPONSE_KEY_DELIVERED_COUNT = "deliveredCount";
+    public static final String RESPONSE_KEY_EXECUTION_ID = "executionId";
+    public static final String RESPONSE_KEY_PATH_ID = "pathId";
+    public static final String RESPONSE_KEY_STEP_COUNT = "stepCount";
     
     public static final class BrowserCommands {
         public static final String BROWSER_COMMAND_TYPE = "browser_command";
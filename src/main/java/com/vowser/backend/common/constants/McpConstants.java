@@ -15,12 +15,14 @@ public final class McpConstants {
         public static final String CREATE_INDEXES = "create_indexes";
         public static final String SEARCH_NEW_PATH = "search_new_path";
         public static final String SAVE_NEW_PATH = "save_new_path";
+        public static final String SAVE_NEW_PATHS = "save_new_paths";
         public static final String CREATE_NEW_INDEXES = "create_new_indexes";
         public static final String CHECK_GRAPH = "check_graph";
         public static final String VISUALIZE_PATHS = "visualize_paths";
         public static final String FIND_POPULAR_PATHS = "find_popular_paths";
         public static final String CLEANUP_PATHS = "cleanup_paths";
         public static final String SAVE_CONTRIBUTION_PATH = "save_contribution_path";
+        public static final String SAVE_CONTRIBUTION_PATHS = "save_contribution_paths";
 
         @Deprecated
         public static final String SEARCH_PATH_RESULT = "search_path_result";
@@ -28,6 +30,14 @@ public final class McpConstants {
         public static final String SAVE_PATH_RESULT = "save_path_result";
     }
     
+    public static final class Envelope {
+        public static final String TYPE = "type";
+        public static final String DATA = "data";
+        public static final String REQUEST_ID = "requestId";
+        public static final String STATUS = "status";
+        public static final String SESSION_ID = "sessionId";
+    }
+
     public static final class Status {
         public static final String SUCCESS = "success";
     }
@@ -0,0 +1,21 @@
+package com.vowser.backend.common.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum OutboxStatus {
+
+    PENDING("PENDING", "MCP 서버 전송 대기"),
+    SENT("SENT", "MCP 서버 전송 완료"),
+    FAILED("FAILED", "읽을 수 없는 데이터로 전송 불가");
+
+    private final String code;
+    private final String description;
+
+    @Override
+    public String toString() {
+        return code;
+    }
+}
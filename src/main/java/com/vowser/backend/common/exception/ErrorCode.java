@@ -50,11 +50,16 @@ public enum ErrorCode {
     INVALID_BUSINESS_LOGIC(HttpStatus.BAD_REQUEST, "B001", "비즈니스 로직 오류가 발생했습니다"),
     DATA_INTEGRITY_VIOLATION(HttpStatus.CONFLICT, "B002", "데이터 무결성 위반이 발생했습니다"),
     CONCURRENT_MODIFICATION(HttpStatus.CONFLICT, "B003", "동시 수정 충돌이 발생했습니다"),
+
+    // Control Session
+    CONTROL_SESSION_ON_OTHER_NODE(HttpStatus.CONFLICT, "W001", "클라이언트 세션이 다른 서버 인스턴스에 연결되어 있습니다"),
     
     // External Service
     EXTERNAL_SERVICE_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "E001", "외부 서비스 오류가 발생했습니다"),
     MCP_SERVER_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "E002", "MCP 서버 오류가 발생했습니다"),
-    REDIS_CONNECTION_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "E003", "Redis 연결 오류가 발생했습니다");
+    REDIS_CONNECTION_ERROR(HttpStatus.SERVICE_UNAVAILABLE, "E003", "Redis 연결 오류가 발생했습니다"),
+    MCP_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "E004", "MCP 서버 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요"),
+    MCP_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "E005", "MCP 서버가 일시적으로 응답하지 않습니다. 잠시 후 다시 시도해주세요");
 
     private final HttpStatus status;
     private final String code;
@@ -4,6 +4,7 @@ import com.vowser.backend.api.dto.common.ApiResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -32,6 +33,8 @@ import java.util.stream.Collectors;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private static final int MCP_RETRY_AFTER_SECONDS = 1;
+
     /**
      * BaseException 및 하위 예외 처리
      */
@@ -46,6 +49,27 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(errorCode, e.getDetail()));
     }
 
+    /**
+     * MCP 연동 예외 처리
+     * 과부하(429)와 서킷 브레이커 차단(503)은 클라이언트가 재시도할 수 있도록 Retry-After 헤더를 함께 반환
+     */
+    @ExceptionHandler(McpException.class)
+    protected ResponseEntity<ApiResponse<Void>> handleMcpException(McpException e, HttpServletRequest request) {
+        log.warn("McpException occurred: {} - {} ({} {})", e.getErrorCode().getCode(), e.getDisplayMessage(),
+                request.getMethod(), request.getRequestURI());
+
+        ErrorCode errorCode = e.getErrorCode();
+        ResponseEntity.BodyBuilder response = ResponseEntity.status(errorCode.getStatus());
+        if (e.getRetryAfter() != null) {
+            // Retry-After는 초 단위 정수이므로 올림하여 너무 이른 재시도를 막음
+            long seconds = Math.max(1, (e.getRetryAfter().toMillis() + 999) / 1000);
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        } else if (errorCode.getStatus() == HttpStatus.TOO_MANY_REQUESTS) {
+            response.header(HttpHeaders.RETRY_AFTER, String.valueOf(MCP_RETRY_AFTER_SECONDS));
+        }
+        return response.body(ApiResponse.error(errorCode, e.getDetail()));
+    }
+
     /**
      * Spring Validation 예외 처리 (@Valid, @Validated)
      */
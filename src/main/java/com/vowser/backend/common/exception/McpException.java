@@ -0,0 +1,60 @@
+package com.vowser.backend.common.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * MCP 서버 연동 중 발생하는 예외
+ */
+public class McpException extends BaseException {
+
+    /**
+     * 클라이언트가 다시 시도하기까지 기다릴 시간 (정해지지 않았으면 null)
+     */
+    @Getter
+    private final Duration retryAfter;
+
+    /**
+     * ErrorCode만으로 MCP 예외 생성
+     */
+    public McpException(ErrorCode errorCode) {
+        super(errorCode);
+        this.retryAfter = null;
+    }
+
+    /**
+     * ErrorCode와 상세 메시지로 MCP 예외 생성
+     */
+    public McpException(ErrorCode errorCode, String detail) {
+        this(errorCode, detail, null);
+    }
+
+    /**
+     * ErrorCode, 상세 메시지, 재시도 대기 시간으로 MCP 예외 생성
+     */
+    public McpException(ErrorCode errorCode, String detail, Duration retryAfter) {
+        super(errorCode, detail);
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * ErrorCode와 원인 예외로 MCP 예외 생성
+     */
+    public McpException(ErrorCode errorCode, Throwable cause) {
+        super(errorCode, cause);
+        this.retryAfter = null;
+    }
+
+
+    /**
+     * 자주 사용되는 정적 팩토리 메서드들
+     */
+    public static McpException overloaded(String reason) {
+        return new McpException(ErrorCode.MCP_OVERLOADED, reason);
+    }
+
+    public static McpException unavailable(String reason, Duration retryAfter) {
+        return new McpException(ErrorCode.MCP_UNAVAILABLE, reason, retryAfter);
+    }
+}
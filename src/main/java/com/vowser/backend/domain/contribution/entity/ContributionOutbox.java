@@ -0,0 +1,79 @@
+package com.vowser.backend.domain.contribution.entity;
+
+import com.vowser.backend.common.entity.BaseEntity;
+import com.vowser.backend.common.enums.OutboxStatus;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * MCP 서버로 전송할 기여모드 데이터 보관함 (outbox)
+ * MCP 연결이 끊겨 있어도 기여 데이터를 먼저 저장해두고, 연결되면 순서대로 전송
+ */
+@Entity
+@Table(name = "contribution_outbox", indexes = {
+        @Index(name = "uk_contribution_outbox_dedup", columnList = "dedup_key", unique = true),
+        @Index(name = "idx_contribution_outbox_status", columnList = "status, outbox_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder(toBuilder = true)
+public class ContributionOutbox extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    /** 재전송 시 중복 저장을 막기 위한 내용 해시 */
+    @Column(name = "dedup_key", nullable = false, length = 64)
+    private String dedupKey;
+
+    @Column(name = "session_id", nullable = false)
+    private String sessionId;
+
+    /** 기여모드 메시지 JSON */
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGTEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    /** 이 시각 이후에 전송 대상이 됨 (전송 중인 인스턴스의 점유 기한이거나 재시도 대기 시각) */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /** 전송할 인스턴스가 점유 (기한 안에 결과가 기록되지 않으면 다른 인스턴스가 다시 가져감) */
+    public void claim(LocalDateTime leaseUntil) {
+        this.attempts++;
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /** 전송 실패 후 재시도 시각 지정 */
+    public void retryAt(LocalDateTime nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /** 전송 완료 처리 */
+    public void markSent(LocalDateTime now) {
+        this.status = OutboxStatus.SENT;
+        this.sentAt = now;
+    }
+
+    /** 전송할 수 없는 항목으로 처리 (보관 기간이 지나도 삭제하지 않음) */
+    public void markFailed() {
+        this.status = OutboxStatus.FAILED;
+        this.nextAttemptAt = null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.vowser.backend.domain.contribution.repository;
+
+import com.vowser.backend.common.enums.OutboxStatus;
+import com.vowser.backend.domain.contribution.entity.ContributionOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 기여모드 outbox 리포지토리
+ */
+@Repository
+public interface ContributionOutboxRepository extends JpaRepository<ContributionOutbox, Long> {
+
+    /**
+     * 같은 내용이 이미 저장되어 있는지 확인
+     */
+    boolean existsByDedupKey(String dedupKey);
+
+    /**
+     * 전송할 수 있는 항목을 오래된 순서대로 잠가서 조회
+     * 다른 인스턴스가 잠근 행은 건너뛰므로(SKIP LOCKED) 여러 인스턴스가 같은 항목을 가져가지 않음
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from ContributionOutbox o where o.status = :status "
+            + "and (o.nextAttemptAt is null or o.nextAttemptAt <= :now) order by o.id asc")
+    List<ContributionOutbox> findClaimable(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now,
+                                           Pageable pageable);
+
+    /**
+     * 상태별 항목 수
+     */
+    long countByStatus(OutboxStatus status);
+
+    /**
+     * 상태별 가장 오래된 항목
+     */
+    Optional<ContributionOutbox> findFirstByStatusOrderByIdAsc(OutboxStatus status);
+
+    /**
+     * 전송이 끝난 지 오래된 항목 삭제
+     */
+    @Modifying
+    @Query("delete from ContributionOutbox o where o.status = :status and o.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") OutboxStatus status, @Param("before") LocalDateTime before);
+}
@@ -0,0 +1,136 @@
+package com.vowser.backend.infrastructure.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 브라우저 제어 WebSocket 세션 관련 설정 클래스
+ * application.yml의 control 설정을 매핑
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "control")
+public class ControlConfig {
+
+    private Cluster cluster = new Cluster();
+
+    private Outbound outbound = new Outbound();
+
+    private Tools tools = new Tools();
+
+    private Heartbeat heartbeat = new Heartbeat();
+
+    private Navigation navigation = new Navigation();
+
+    @Getter
+    @Setter
+    public static class Cluster {
+
+        /**
+         * 여러 백엔드 인스턴스가 Redis로 세션 위치를 공유할지 여부
+         * 사용하면 다른 인스턴스에 연결된 클라이언트로도 명령과 MCP 응답을 전달할 수 있음
+         */
+        private boolean enabled = false;
+
+        /**
+         * 세션 위치(sessionId → 인스턴스 ID)를 저장할 Redis 키 접두사
+         */
+        private String keyPrefix = "control:session:";
+
+        /**
+         * 인스턴스별 전달 채널 접두사 (뒤에 인스턴스 ID가 붙음)
+         */
+        private String channelPrefix = "control:node:";
+
+        /**
+         * 세션 위치 항목의 유지 시간 (인스턴스가 비정상 종료되면 이 시간 뒤 사라짐)
+         */
+        private Duration sessionTtl = Duration.ofSeconds(90);
+    }
+
+    @Getter
+    @Setter
+    public static class Outbound {
+
+        /**
+         * 세션별로 전송을 기다릴 수 있는 메시지 크기 합계 (바이트)
+         */
+        private long bufferSizeLimit = 512 * 1024;
+
+        /**
+         * 메시지 한 건 전송에 허용하는 시간 (초과하면 느린 클라이언트로 보고 세션을 닫음)
+         */
+        private Duration sendTimeLimit = Duration.ofSeconds(10);
+    }
+
+    @Getter
+    @Setter
+    public static class Tools {
+
+        /**
+         * 도구별로 동시에 실행할 수 있는 최대 호출 수
+         */
+        private int maxConcurrent = 32;
+
+        /**
+         * 도구 이름별 동시 실행 수 재지정 (예: navigate: 8)
+         */
+        private Map<String, Integer> concurrency = new HashMap<>();
+
+        public int concurrencyFor(String toolName) {
+            return Math.max(1, concurrency.getOrDefault(toolName, maxConcurrent));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Heartbeat {
+
+        /**
+         * 이 시간 동안 수신이 없는 세션에 ping을 보냄
+         */
+        private Duration interval = Duration.ofSeconds(25);
+
+        /**
+         * 이 시간 동안 pong이나 메시지가 없으면 끊긴 연결로 보고 세션을 정리
+         */
+        private Duration idleTimeout = Duration.ofSeconds(60);
+    }
+
+    @Getter
+    @Setter
+    public static class Navigation {
+
+        /**
+         * 확인 응답을 기다리는 동안 미리 보낼 수 있는 최대 단계 수
+         */
+        private int maxInFlight = 2;
+
+        /**
+         * 페이지가 바뀌는 단계: 확인 응답을 받기 전에는 다음 단계를 보내지 않음
+         */
+        private List<String> barrierActions = List.of("navigate");
+
+        /**
+         * 단계별 최대 재시도 횟수
+         */
+        private int maxRetries = 2;
+
+        /**
+         * 단계 확인 응답을 기다리는 시간 (초과하면 실패로 보고 재시도)
+         */
+        private Duration ackTimeout = Duration.ofSeconds(30);
+
+        public boolean isBarrier(String action) {
+            return action != null && barrierActions.contains(action);
+        }
+    }
+}
@@ -0,0 +1,370 @@
+package com.vowser.backend.infrastructure.config;
+
+import com.vowser.backend.infrastructure.mcp.McpPriority;
+import com.vowser.backend.infrastructure.mcp.McpWireFormat;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MCP 서버 연결 관련 설정 클래스
+ * application.yml의 mcp 설정을 매핑
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "mcp")
+public class McpConfig {
+
+    private Server server = new Server();
+
+    private Reconnect reconnect = new Reconnect();
+
+    private Pool pool = new Pool();
+
+    private Timeout timeout = new Timeout();
+
+    private Admission admission = new Admission();
+
+    private Cache cache = new Cache();
+
+    private Wire wire = new Wire();
+
+    private Outbox outbox = new Outbox();
+
+    private SaveBatch saveBatch = new SaveBatch();
+
+    private Hedge hedge = new Hedge();
+
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    @Getter
+    @Setter
+    public static class Server {
+
+        /**
+         * MCP 서버 WebSocket 주소 목록
+         * 쉼표로 구분하여 여러 엔드포인트를 지정할 수 있음
+         */
+        private List<String> url = new ArrayList<>(List.of("ws://localhost:8000/ws"));
+    }
+
+    @Getter
+    @Setter
+    public static class Reconnect {
+
+        /**
+         * 첫 재연결 대기 시간 (순간적인 끊김은 빠르게 복구)
+         */
+        private Duration initialDelay = Duration.ofMillis(500);
+
+        /**
+         * 재연결 대기 시간 상한
+         */
+        private Duration maxDelay = Duration.ofSeconds(30);
+
+        /**
+         * 연속 실패 시 대기 시간 증가 배수
+         */
+        private double multiplier = 2.0;
+
+        /**
+         * 대기 시간에 더할 무작위 편차 비율 (0.2 = ±20%)
+         */
+        private double jitter = 0.2;
+    }
+
+    @Getter
+    @Setter
+    public static class Pool {
+
+        /**
+         * 엔드포인트당 유지할 WebSocket 연결 수
+         */
+        private int connectionsPerEndpoint = 1;
+
+        /**
+         * 연결을 비정상으로 판단하는 전송 큐 크기 (바이트)
+         * OkHttp 전송 큐 한도(16MiB)에 닿기 전에 다른 연결로 트래픽을 돌리기 위한 기준
+         */
+        private long unhealthyQueueBytes = 1024 * 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Timeout {
+
+        /**
+         * 기본 응답 대기 시간
+         */
+        private Duration request = Duration.ofSeconds(30);
+
+        /**
+         * 메시지 타입별 응답 대기 시간 (예: "[create_new_indexes]": 120s)
+         */
+        private Map<String, Duration> types = new HashMap<>();
+
+        /**
+         * 타임아웃 휠의 틱 간격 (타임아웃 정밀도)
+         */
+        private Duration tick = Duration.ofMillis(100);
+
+        /**
+         * 타임아웃 휠의 버킷 수
+         */
+        private int wheelSize = 512;
+
+        public Duration forType(String type) {
+            return types.getOrDefault(type, request);
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Admission {
+
+        /**
+         * 연결당 동시에 응답을 기다릴 수 있는 최대 요청 수
+         */
+        private int maxInFlightPerConnection = 256;
+
+        /**
+         * 우선순위 차선별로 처리 슬롯을 기다릴 수 있는 최대 요청 수 (초과 시 즉시 429)
+         */
+        private int maxQueued = 1024;
+
+        /**
+         * 대기열에서 슬롯을 기다리는 최대 시간 (초과 시 429)
+         */
+        private Duration queueTimeout = Duration.ofSeconds(5);
+
+        /**
+         * 차선별 가중치 (슬롯이 날 때 가중치 비율대로 차선을 번갈아 배정)
+         */
+        private Map<McpPriority, Integer> weights = new HashMap<>(Map.of(
+                McpPriority.INTERACTIVE, 8,
+                McpPriority.BACKGROUND, 2,
+                McpPriority.ADMIN, 1));
+
+        /**
+         * 연결당 INTERACTIVE 요청에만 내어주는 처리 슬롯 수
+         * 관리/일괄 요청이 슬롯을 모두 차지해도 음성 명령 조회는 바로 전송될 수 있도록 남겨둠
+         */
+        private int reservedInteractivePerConnection = 32;
+
+        /**
+         * 메시지 타입별 우선순위 재지정 (지정하지 않으면 McpPriority.forType 기준)
+         */
+        private Map<String, McpPriority> types = new HashMap<>();
+
+        public McpPriority priorityFor(String type) {
+            return types.getOrDefault(type, McpPriority.forType(type));
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Cache {
+
+        /**
+         * 조회 결과 캐시 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 메시지 타입별 최대 캐시 항목 수
+         */
+        private long maximumSize = 10_000;
+
+        /**
+         * 메시지 타입별 캐시 유지 시간 (지정하지 않은 타입은 캐시하지 않음)
+         */
+        private Map<String, Duration> ttl = new HashMap<>();
+
+        /**
+         * 메시지 타입별 스냅샷 갱신 기준 시간 (stale-while-revalidate)
+         * 이 시간이 지난 항목은 즉시 반환하되 백그라운드에서 다시 조회하며, ttl이 지나면 제거됨
+         */
+        private Map<String, Duration> staleAfter = new HashMap<>();
+
+        private Refresher refresher = new Refresher();
+
+        private Redis redis = new Redis();
+
+        @Getter
+        @Setter
+        public static class Refresher {
+
+            /**
+             * 동시에 실행할 수 있는 백그라운드 갱신 수
+             */
+            private int poolSize = 2;
+
+            /**
+             * 실행을 기다릴 수 있는 백그라운드 갱신 수 (초과 시 갱신을 건너뜀)
+             */
+            private int queueCapacity = 64;
+        }
+
+        @Getter
+        @Setter
+        public static class Redis {
+
+            /**
+             * 여러 인스턴스가 공유하는 Redis 2차 캐시 사용 여부
+             */
+            private boolean enabled = false;
+
+            private String keyPrefix = "mcp:cache:";
+        }
+    }
+
+    @Getter
+    @Setter
+    public static class Wire {
+
+        /**
+         * 우선 협상할 메시지 인코딩 (json, cbor)
+         * 서버가 지원하지 않으면 JSON으로 동작
+         */
+        private McpWireFormat format = McpWireFormat.JSON;
+
+        /**
+         * permessage-deflate 압축을 적용할 최소 메시지 크기 (바이트)
+         */
+        private long minCompressBytes = 1024;
+    }
+
+    @Getter
+    @Setter
+    public static class Outbox {
+
+        /**
+         * 한 번에 MCP 서버로 전송할 기여모드 데이터 수
+         */
+        private int batchSize = 100;
+
+        /**
+         * 전송 완료된 항목을 보관할 기간
+         */
+        private Duration retention = Duration.ofDays(1);
+
+        /**
+         * 전송을 시작한 인스턴스가 항목을 점유하는 시간 (MCP 응답 타임아웃보다 길어야 함)
+         * 이 시간 안에 결과가 기록되지 않으면(인스턴스 종료 등) 다른 인스턴스가 다시 전송
+         */
+        private Duration claimTimeout = Duration.ofMinutes(2);
+
+        /**
+         * 전송 실패 후 첫 재시도까지의 대기 시간 (실패할 때마다 두 배로 늘어남)
+         */
+        private Duration retryBackoff = Duration.ofSeconds(1);
+
+        /**
+         * 재시도 대기 시간의 상한
+         */
+        private Duration maxRetryBackoff = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class SaveBatch {
+
+        /**
+         * 경로 저장 요청을 묶어서 보낼지 여부 (MCP 서버가 save_new_paths를 지원해야 함)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 한 배치에 담을 최대 경로 수
+         */
+        private int maxSize = 32;
+
+        /**
+         * 첫 요청이 배치를 기다리는 최대 시간
+         */
+        private Duration maxDelay = Duration.ofMillis(20);
+    }
+
+    @Getter
+    @Setter
+    public static class Hedge {
+
+        /**
+         * 검색 요청 헤지 사용 여부 (서로 다른 MCP 엔드포인트가 2개 이상일 때만 동작)
+         */
+        private boolean enabled = false;
+
+        /**
+         * 헤지 대기 시간으로 사용할 응답 시간 분위수
+         */
+        private double percentile = 0.95;
+
+        /**
+         * 응답 시간 표본이 모이기 전 사용할 헤지 대기 시간
+         */
+        private Duration initialDelay = Duration.ofMillis(300);
+
+        /**
+         * 헤지 대기 시간 하한
+         */
+        private Duration minDelay = Duration.ofMillis(20);
+
+        /**
+         * 분위수 계산에 사용할 최근 응답 시간 표본 수
+         */
+        private int sampleSize = 512;
+
+        /**
+         * 전체 검색 요청 대비 헤지 요청 비율 상한
+         */
+        private double maxRatio = 0.05;
+
+        /**
+         * 한 번에 몰아서 보낼 수 있는 헤지 요청 수
+         */
+        private int burst = 10;
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+
+        /**
+         * 서킷 브레이커 사용 여부
+         */
+        private boolean enabled = true;
+
+        /**
+         * 열림 상태로 전환할 실패율 (타임아웃, 연결 끊김 기준)
+         */
+        private double failureRateThreshold = 0.5;
+
+        /**
+         * 실패율을 계산할 최근 요청 수
+         */
+        private int slidingWindowSize = 20;
+
+        /**
+         * 실패율을 판단하기 위한 최소 요청 수
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * 열림 상태를 유지할 시간 (이후 반열림 상태에서 시험 요청을 보냄)
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * 반열림 상태에서 통과시킬 시험 요청 수
+         */
+        private int halfOpenProbes = 3;
+    }
+}
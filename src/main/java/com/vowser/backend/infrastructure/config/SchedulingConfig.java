@@ -0,0 +1,13 @@
+package com.vowser.backend.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄링 설정
+ * 기여모드 outbox 전송 등 주기 작업을 위한 설정
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,128 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.common.constants.ApiConstants;
+import com.vowser.backend.common.constants.ToolConstants;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.SharedMessage;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.TextMessage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * 브라우저 제어 명령 인코더
+ *
+ * 내용이 항상 같은 명령(뒤로가기/앞으로가기)은 시작 시 한 번 만든 메시지를 재사용하고,
+ * URL이나 요소 ID가 들어가는 명령은 Map과 ObjectMapper를 거치지 않고 JsonGenerator로 바로 작성함
+ * 만든 메시지는 불변이므로 여러 세션으로 그대로 보낼 수 있음
+ */
+@Component
+public class BrowserCommandEncoder {
+
+    private static final String TYPE = "type";
+    private static final String DATA = "data";
+    private static final String ACTION = "action";
+    private static final String URL = "url";
+    private static final String SELECTOR = "selector";
+
+    // 제어 명령은 대부분 작으므로 버퍼 확장 없이 한 번에 작성되도록 함
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private final JsonFactory jsonFactory;
+    private final SharedMessage goBack;
+    private final SharedMessage goForward;
+    private final SharedMessage goBackAction;
+
+    public BrowserCommandEncoder(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+        this.goBack = encodeBrowserCommand(ApiConstants.BrowserCommands.GO_BACK, null, null);
+        this.goForward = encodeBrowserCommand(ApiConstants.BrowserCommands.GO_FORWARD, null, null);
+        this.goBackAction = encodeAction(ToolConstants.ToolActions.GO_BACK, null, null);
+    }
+
+    /**
+     * REST API용 이동 명령: {"type":"browser_command","data":{"type":"navigate","url":...}}
+     */
+    public SharedMessage navigate(String url) {
+        return encodeBrowserCommand(ApiConstants.BrowserCommands.NAVIGATE, URL, url);
+    }
+
+    /**
+     * REST API용 뒤로가기 명령 (캐시된 메시지)
+     */
+    public SharedMessage goBack() {
+        return goBack;
+    }
+
+    /**
+     * REST API용 앞으로가기 명령 (캐시된 메시지)
+     */
+    public SharedMessage goForward() {
+        return goForward;
+    }
+
+    /**
+     * 도구용 이동 명령: {"action":"navigate","url":...}
+     */
+    public SharedMessage navigateAction(String url) {
+        return encodeAction(ToolConstants.ToolActions.NAVIGATE, URL, url);
+    }
+
+    /**
+     * 도구용 클릭 명령: {"action":"click","selector":...}
+     */
+    public SharedMessage clickAction(String selector) {
+        return encodeAction(ToolConstants.ToolActions.CLICK, SELECTOR, selector);
+    }
+
+    /**
+     * 도구용 뒤로가기 명령 (캐시된 메시지)
+     */
+    public SharedMessage goBackAction() {
+        return goBackAction;
+    }
+
+    private SharedMessage encodeBrowserCommand(String commandType, String field, String value) {
+        ByteArrayBuilder buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField(TYPE, ApiConstants.BrowserCommands.BROWSER_COMMAND_TYPE);
+            generator.writeObjectFieldStart(DATA);
+            generator.writeStringField(TYPE, commandType);
+            if (field != null) {
+                generator.writeStringField(field, value);
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return toMessage(buffer);
+    }
+
+    private SharedMessage encodeAction(String action, String field, String value) {
+        ByteArrayBuilder buffer = new ByteArrayBuilder(INITIAL_BUFFER_SIZE);
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeStringField(ACTION, action);
+            if (field != null) {
+                generator.writeStringField(field, value);
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return toMessage(buffer);
+    }
+
+    private SharedMessage toMessage(ByteArrayBuilder buffer) {
+        byte[] payload = buffer.toByteArray();
+        // UTF-8 바이트로 만들었으므로 크기를 다시 계산하지 않음
+        return new SharedMessage(new TextMessage(payload), payload.length);
+    }
+}
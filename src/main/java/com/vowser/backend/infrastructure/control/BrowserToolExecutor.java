@@ -0,0 +1,210 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 브라우저 도구 실행기
+ *
+ * 도구 호출을 WebSocket I/O 스레드 밖의 가상 스레드에서 실행하여 느린 도구가 연결의 수신을 막지 않도록 함
+ * 한 세션의 호출은 도착 순서대로 하나씩 실행하고, 도구별 동시 실행 수를 제한하며,
+ * 세션이 닫히면 대기 중인 호출은 취소하고 실행 중인 호출은 인터럽트함
+ */
+@Slf4j
+@Component
+public class BrowserToolExecutor {
+
+    private final ControlConfig.Tools config;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, SessionLane> lanes = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Semaphore> permits = new ConcurrentHashMap<>();
+    private final ExecutorService executor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("control-tool-", 0).factory());
+
+    public BrowserToolExecutor(ControlConfig controlConfig, MeterRegistry meterRegistry) {
+        this.config = controlConfig.getTools();
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 세션의 실행 순서에 도구 호출을 추가
+     *
+     * @param sessionId 호출한 WebSocket 세션 ID
+     * @param toolName 도구 이름 (동시 실행 제한과 지표 태그에 사용)
+     * @param invocation 도구 실행
+     * @return 실행 결과 (세션이 닫혀 취소되면 CancellationException으로 완료)
+     */
+    public CompletableFuture<ControlDto.ToolResult> submit(String sessionId, String toolName,
+                                                           Supplier<ControlDto.ToolResult> invocation) {
+        Invocation task = new Invocation(toolName, invocation, new CompletableFuture<>(), System.nanoTime());
+
+        while (true) {
+            SessionLane lane = lanes.computeIfAbsent(sessionId, SessionLane::new);
+            boolean start;
+            synchronized (lane) {
+                if (lane.retired) {
+                    // 방금 비워져 정리된 실행 순서면 새로 만듦
+                    continue;
+                }
+                lane.pending.addLast(task);
+                start = !lane.running;
+                lane.running = true;
+            }
+
+            if (start) {
+                try {
+                    executor.execute(() -> run(lane));
+                } catch (RejectedExecutionException e) {
+                    cancel(sessionId);
+                }
+            }
+            return task.future();
+        }
+    }
+
+    /**
+     * 세션의 대기 중인 호출을 취소하고 실행 중인 호출을 인터럽트
+     */
+    public void cancel(String sessionId) {
+        SessionLane lane = lanes.remove(sessionId);
+        if (lane == null) {
+            return;
+        }
+
+        int cancelled = 0;
+        synchronized (lane) {
+            lane.retired = true;
+            Invocation pending;
+            while ((pending = lane.pending.pollFirst()) != null) {
+                if (pending.future().cancel(false)) {
+                    record(pending.toolName(), "cancelled", pending.submittedAtNanos());
+                    cancelled++;
+                }
+            }
+            if (lane.current != null && lane.current.future().cancel(false)) {
+                cancelled++;
+                lane.worker.interrupt();
+            }
+        }
+
+        if (cancelled > 0) {
+            log.info("세션 종료로 도구 호출 취소: sessionId=[{}], cancelledCount=[{}]", sessionId, cancelled);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 세션의 호출을 순서대로 실행 (세션당 하나의 가상 스레드만 실행됨)
+     */
+    private void run(SessionLane lane) {
+        while (true) {
+            Invocation next;
+            synchronized (lane) {
+                next = lane.pending.pollFirst();
+                if (next == null) {
+                    lane.running = false;
+                    lane.retired = true;
+                    lane.current = null;
+                    lane.worker = null;
+                    lanes.remove(lane.sessionId, lane);
+                    return;
+                }
+                lane.current = next;
+                lane.worker = Thread.currentThread();
+            }
+
+            execute(next);
+
+            synchronized (lane) {
+                lane.current = null;
+                lane.worker = null;
+                // 취소 시 남은 인터럽트가 다음 호출에 영향을 주지 않도록 지움
+                Thread.interrupted();
+            }
+        }
+    }
+
+    private void execute(Invocation invocation) {
+        if (invocation.future().isDone()) {
+            return;
+        }
+
+        Semaphore toolPermits = permits.computeIfAbsent(invocation.toolName(),
+                name -> new Semaphore(config.concurrencyFor(name)));
+        try {
+            toolPermits.acquire();
+        } catch (InterruptedException e) {
+            if (invocation.future().cancel(false)) {
+                record(invocation.toolName(), "cancelled", invocation.submittedAtNanos());
+            }
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            ControlDto.ToolResult result = invocation.invocation().get();
+            // 결과를 받은 쪽이 지표를 바로 확인할 수 있도록 완료 전에 기록
+            if (invocation.future().isDone()) {
+                record(invocation.toolName(), "cancelled", startedAt);
+            } else {
+                record(invocation.toolName(), result.isError() ? "error" : "success", startedAt);
+                invocation.future().complete(result);
+            }
+        } catch (RuntimeException e) {
+            record(invocation.toolName(), "error", startedAt);
+            invocation.future().completeExceptionally(e);
+        } finally {
+            toolPermits.release();
+        }
+    }
+
+    private void record(String toolName, String result, long startedAtNanos) {
+        Timer.builder("control.tool.execution")
+                .description("브라우저 도구 실행 시간")
+                .tag("tool", toolName)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAtNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 세션별 실행 순서 (lane 자체를 락으로 사용)
+     */
+    private static final class SessionLane {
+
+        private final String sessionId;
+        private final Deque<Invocation> pending = new ArrayDeque<>();
+        private boolean running;
+        private boolean retired;
+        private Invocation current;
+        private Thread worker;
+
+        private SessionLane(String sessionId) {
+            this.sessionId = sessionId;
+        }
+    }
+
+    private record Invocation(String toolName, Supplier<ControlDto.ToolResult> invocation,
+                              CompletableFuture<ControlDto.ToolResult> future, long submittedAtNanos) {
+    }
+}
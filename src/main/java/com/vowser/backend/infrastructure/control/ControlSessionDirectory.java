@@ -0,0 +1,250 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 여러 백엔드 인스턴스가 공유하는 제어 세션 위치 정보
+ *
+ * 세션이 연결된 인스턴스를 Redis에 기록하고, 다른 인스턴스에 연결된 세션으로 보낼 메시지는
+ * 해당 인스턴스의 Redis pub/sub 채널로 전달함
+ * 비활성화 상태에서는 모든 조회가 비어 있어 로컬 세션으로만 전달됨
+ */
+@Slf4j
+@Component
+public class ControlSessionDirectory {
+
+    /**
+     * 자신이 기록한 항목일 때만 삭제 (같은 sessionId로 다른 인스턴스에 재연결된 경우를 보호)
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final ControlConfig.Cluster config;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Set<String> localSessionIds = ConcurrentHashMap.newKeySet();
+
+    private final Counter forwardedCounter;
+    private final Counter forwardFailedCounter;
+    private final Timer deliveryTimer;
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    public ControlSessionDirectory(RedisTemplate<String, String> redisTemplate,
+                                   ObjectMapper objectMapper,
+                                   ControlConfig controlConfig,
+                                   MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.config = controlConfig.getCluster();
+
+        this.forwardedCounter = meterRegistry.counter("control.cluster.forwarded", "result", "published");
+        this.forwardFailedCounter = meterRegistry.counter("control.cluster.forwarded", "result", "failed");
+        this.deliveryTimer = Timer.builder("control.cluster.delivery")
+                .description("다른 인스턴스에서 전달한 메시지가 이 인스턴스에 도착하기까지 걸린 시간")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return config.isEnabled();
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 다른 인스턴스가 이 인스턴스로 전달한 메시지를 받기 시작
+     *
+     * @param handler 전달받은 메시지를 로컬 세션으로 보내는 처리기
+     */
+    public synchronized void subscribe(Consumer<Delivery> handler) {
+        if (!isEnabled() || listenerContainer != null) {
+            return;
+        }
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        container.addMessageListener((message, pattern) -> receive(message.getBody(), handler),
+                new ChannelTopic(channelOf(nodeId)));
+        container.afterPropertiesSet();
+        container.start();
+        listenerContainer = container;
+        log.info("제어 세션 클러스터 전달 채널 구독 시작: nodeId=[{}]", nodeId);
+    }
+
+    /**
+     * 이 인스턴스에 연결된 세션을 기록
+     */
+    public void register(String sessionId) {
+        if (!isEnabled()) {
+            return;
+        }
+        localSessionIds.add(sessionId);
+        try {
+            redisTemplate.opsForValue().set(keyOf(sessionId), nodeId,
+                    config.getSessionTtl().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            log.warn("제어 세션 위치 기록 실패: sessionId=[{}]", sessionId, e);
+        }
+    }
+
+    /**
+     * 이 인스턴스에서 끊긴 세션의 위치 정보를 삭제
+     */
+    public void unregister(String sessionId) {
+        if (!isEnabled()) {
+            return;
+        }
+        localSessionIds.remove(sessionId);
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(keyOf(sessionId)), nodeId);
+        } catch (Exception e) {
+            log.warn("제어 세션 위치 삭제 실패: sessionId=[{}]", sessionId, e);
+        }
+    }
+
+    /**
+     * 세션이 연결된 인스턴스 ID를 조회
+     *
+     * @return 인스턴스 ID (비활성화 상태이거나 알 수 없으면 null)
+     */
+    public String ownerOf(String sessionId) {
+        if (!isEnabled()) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().get(keyOf(sessionId));
+        } catch (Exception e) {
+            log.warn("제어 세션 위치 조회 실패: sessionId=[{}]", sessionId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 다른 인스턴스에 연결된 세션으로 메시지를 전달
+     *
+     * @param ownerNodeId 세션이 연결된 인스턴스 ID
+     * @return 구독 중인 인스턴스가 있어 전달되었으면 true
+     */
+    public boolean forward(String ownerNodeId, String sessionId, String payload,
+                           ControlSessionOutbound.OverflowPolicy policy) {
+        try {
+            String envelope = objectMapper.writeValueAsString(
+                    new Delivery(sessionId, payload, policy, System.currentTimeMillis()));
+            Long receivers = redisTemplate.convertAndSend(channelOf(ownerNodeId), envelope);
+            if (receivers == null || receivers == 0) {
+                forwardFailedCounter.increment();
+                log.warn("제어 세션 전달 실패: 구독 중인 인스턴스가 없습니다. nodeId=[{}], sessionId=[{}]",
+                        ownerNodeId, sessionId);
+                return false;
+            }
+            forwardedCounter.increment();
+            return true;
+        } catch (Exception e) {
+            forwardFailedCounter.increment();
+            log.warn("제어 세션 전달 실패: nodeId=[{}], sessionId=[{}]", ownerNodeId, sessionId, e);
+            return false;
+        }
+    }
+
+    /**
+     * 이 인스턴스에 연결된 세션의 위치 정보 유지 시간을 갱신
+     * 한 세션의 갱신이 실패해도 나머지 세션은 계속 갱신함 (실패는 첫 오류와 건수만 기록)
+     */
+    @Scheduled(fixedDelayString = "${control.cluster.refresh-interval:30s}")
+    public void refresh() {
+        if (!isEnabled() || localSessionIds.isEmpty()) {
+            return;
+        }
+        long ttlMillis = config.getSessionTtl().toMillis();
+        int failed = 0;
+        Exception firstError = null;
+        for (String sessionId : localSessionIds) {
+            try {
+                redisTemplate.opsForValue().set(keyOf(sessionId), nodeId, ttlMillis, TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                failed++;
+                if (firstError == null) {
+                    firstError = e;
+                }
+            }
+        }
+        if (failed > 0) {
+            log.warn("제어 세션 위치 갱신 실패: failed=[{}], sessionCount=[{}]",
+                    failed, localSessionIds.size(), firstError);
+        }
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (listenerContainer != null) {
+            listenerContainer.stop();
+            try {
+                listenerContainer.destroy();
+            } catch (Exception e) {
+                log.debug("제어 세션 전달 채널 종료 중 오류", e);
+            }
+            listenerContainer = null;
+        }
+        for (String sessionId : List.copyOf(localSessionIds)) {
+            unregister(sessionId);
+        }
+    }
+
+    private void receive(byte[] body, Consumer<Delivery> handler) {
+        try {
+            Delivery delivery = objectMapper.readValue(new String(body, StandardCharsets.UTF_8), Delivery.class);
+            deliveryTimer.record(Math.max(0, System.currentTimeMillis() - delivery.sentAt()), TimeUnit.MILLISECONDS);
+            handler.accept(delivery);
+        } catch (JsonProcessingException e) {
+            log.warn("제어 세션 전달 메시지 해석 실패", e);
+        } catch (Exception e) {
+            log.error("제어 세션 전달 메시지 처리 중 오류 발생", e);
+        }
+    }
+
+    private String keyOf(String sessionId) {
+        return config.getKeyPrefix() + sessionId;
+    }
+
+    private String channelOf(String targetNodeId) {
+        return config.getChannelPrefix() + targetNodeId;
+    }
+
+    /**
+     * 인스턴스 간 전달 메시지
+     *
+     * @param sessionId 대상 세션
+     * @param payload 세션으로 보낼 JSON 메시지
+     * @param policy 대상 세션 버퍼가 가득 찼을 때의 처리 방식
+     * @param sentAt 전달 시각 (epoch millis, 지연 시간 측정용)
+     */
+    public record Delivery(String sessionId, String payload, ControlSessionOutbound.OverflowPolicy policy,
+                           long sentAt) {
+    }
+}
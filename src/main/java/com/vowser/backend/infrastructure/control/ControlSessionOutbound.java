@@ -0,0 +1,362 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 제어 세션별 전송 대기열
+ *
+ * 호출 스레드는 메시지를 세션 대기열에 넣기만 하고, 세션마다 하나의 writer가 순서대로 전송함
+ * (ConcurrentWebSocketSessionDecorator와 같은 버퍼/전송 시간 제한을 적용하되 호출자를 막지 않음)
+ * 느린 클라이언트가 MCP 수신 스레드를 막거나, 한 세션에 동시에 전송하여 오류가 나는 것을 방지
+ *
+ * 버퍼 한도를 넘으면 오래된 진행 상황 메시지부터 버리고, 그래도 명령을 넣을 수 없거나
+ * 한 번의 전송이 제한 시간을 넘기면 세션을 닫아 클라이언트가 다시 연결하도록 함
+ * 전송 시간은 새 메시지를 넣을 때와 주기적인 점검에서 모두 확인하므로, 더 보낼 메시지가 없는 세션도 정리됨
+ */
+@Slf4j
+@Component
+public class ControlSessionOutbound {
+
+    /**
+     * 버퍼가 가득 찼을 때의 처리 방식
+     */
+    public enum OverflowPolicy {
+
+        /**
+         * 진행 상황 등 최신 값만 의미 있는 메시지: 오래된 메시지부터 버림
+         */
+        DROP_OLDEST,
+
+        /**
+         * 명령 등 유실되면 안 되는 메시지: 넣을 수 없으면 세션을 닫음
+         */
+        CLOSE
+    }
+
+    private final long bufferSizeLimit;
+    private final long sendTimeLimitNanos;
+    private final ConcurrentHashMap<String, SessionQueue> queues = new ConcurrentHashMap<>();
+    private final ExecutorService writers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("control-writer-", 0).factory());
+
+    private final AtomicLong queuedMessages = new AtomicLong();
+    private final AtomicLong queuedBytes = new AtomicLong();
+    private final Counter droppedCounter;
+    private final Counter bufferClosedCounter;
+    private final Counter timeLimitClosedCounter;
+
+    public ControlSessionOutbound(ControlConfig controlConfig, MeterRegistry meterRegistry) {
+        ControlConfig.Outbound config = controlConfig.getOutbound();
+        this.bufferSizeLimit = config.getBufferSizeLimit();
+        this.sendTimeLimitNanos = config.getSendTimeLimit().toNanos();
+
+        Gauge.builder("control.outbound.queued", queuedMessages, AtomicLong::get)
+                .description("제어 세션 전송을 기다리는 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("control.outbound.queued.bytes", queuedBytes, AtomicLong::get)
+                .description("제어 세션 전송을 기다리는 메시지 크기 (바이트)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.droppedCounter = meterRegistry.counter("control.outbound.dropped");
+        this.bufferClosedCounter = meterRegistry.counter("control.outbound.closed", "reason", "buffer");
+        this.timeLimitClosedCounter = meterRegistry.counter("control.outbound.closed", "reason", "send_time");
+    }
+
+    /**
+     * 메시지를 세션 대기열에 넣고 writer가 없으면 시작
+     *
+     * @return 대기열에 들어갔으면 true (버려졌거나 세션이 닫혔으면 false)
+     */
+    public boolean send(WebSocketSession session, String json, OverflowPolicy policy) {
+        return send(session, SharedMessage.of(json), policy);
+    }
+
+    /**
+     * 미리 만든 메시지를 세션 대기열에 넣음
+     * 여러 세션으로 같은 내용을 보낼 때 직렬화와 크기 계산을 한 번만 하도록 같은 메시지를 공유
+     *
+     * @return 대기열에 들어갔으면 true (버려졌거나 세션이 닫혔으면 false)
+     */
+    public boolean send(WebSocketSession session, SharedMessage message, OverflowPolicy policy) {
+        return enqueue(session, new Outbound(message.message(), policy, message.size()));
+    }
+
+    /**
+     * 하트비트 ping을 대기열에 넣음 (다른 메시지와 동시에 쓰지 않도록 같은 writer로 전송)
+     */
+    public boolean ping(WebSocketSession session) {
+        return enqueue(session, new Outbound(new PingMessage(), OverflowPolicy.DROP_OLDEST, 1));
+    }
+
+    /**
+     * 호출 스레드를 막지 않도록 세션 종료를 가상 스레드에서 수행
+     * (응답 없는 연결은 close 프레임 전송에서 오래 막힐 수 있음)
+     */
+    public void close(WebSocketSession session, CloseStatus status) {
+        release(session);
+        try {
+            writers.execute(() -> {
+                try {
+                    session.close(status);
+                } catch (IOException e) {
+                    log.debug("제어 세션 종료 중 오류: sessionId=[{}]", session.getId(), e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("종료 중이라 제어 세션을 닫지 못함: sessionId=[{}]", session.getId());
+        }
+    }
+
+    private boolean enqueue(WebSocketSession session, Outbound message) {
+        if (!session.isOpen()) {
+            return false;
+        }
+
+        SessionQueue queue = queues.computeIfAbsent(session.getId(), id -> new SessionQueue(session));
+        OverflowPolicy policy = message.policy();
+
+        Counter closeReason = null;
+        boolean startWriter = false;
+        synchronized (queue) {
+            if (queue.closed) {
+                return false;
+            }
+
+            long writeStartedNanos = queue.writeStartedNanos;
+            if (writeStartedNanos != 0 && System.nanoTime() - writeStartedNanos > sendTimeLimitNanos) {
+                closeReason = timeLimitClosedCounter;
+            } else {
+                while (exceedsLimit(queue, message) && evictOldestDroppable(queue)) {
+                    droppedCounter.increment();
+                }
+
+                if (exceedsLimit(queue, message)) {
+                    if (policy == OverflowPolicy.DROP_OLDEST) {
+                        droppedCounter.increment();
+                        log.debug("전송 버퍼 초과로 진행 상황 메시지를 버림: sessionId=[{}]", session.getId());
+                        return false;
+                    }
+                    closeReason = bufferClosedCounter;
+                } else {
+                    queue.pending.addLast(message);
+                    queue.bytes += message.size();
+                    queuedMessages.incrementAndGet();
+                    queuedBytes.addAndGet(message.size());
+                    if (!queue.writing) {
+                        queue.writing = true;
+                        startWriter = true;
+                    }
+                }
+            }
+
+            if (closeReason != null) {
+                discard(queue);
+            }
+        }
+
+        if (closeReason != null) {
+            closeReason.increment();
+            close(queue, closeReason == bufferClosedCounter ? "전송 버퍼 초과" : "전송 시간 초과");
+            return false;
+        }
+
+        if (startWriter) {
+            try {
+                writers.execute(() -> drain(queue));
+            } catch (RejectedExecutionException e) {
+                synchronized (queue) {
+                    queue.writing = false;
+                    discard(queue);
+                }
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 한 번의 전송이 제한 시간을 넘긴 세션을 닫음
+     * 새 메시지가 들어오지 않으면 enqueue에서 확인할 수 없으므로 주기적으로 모든 세션을 점검
+     */
+    @Scheduled(fixedDelayString = "${control.outbound.sweep-interval:1s}")
+    public void sweepStuckWriters() {
+        sweepStuckWriters(System.nanoTime());
+    }
+
+    void sweepStuckWriters(long nowNanos) {
+        for (SessionQueue queue : queues.values()) {
+            synchronized (queue) {
+                long writeStartedNanos = queue.writeStartedNanos;
+                if (queue.closed || writeStartedNanos == 0 || nowNanos - writeStartedNanos <= sendTimeLimitNanos) {
+                    continue;
+                }
+                discard(queue);
+            }
+            timeLimitClosedCounter.increment();
+            close(queue, "전송 시간 초과");
+        }
+    }
+
+    /**
+     * 종료된 세션의 남은 메시지를 정리
+     */
+    public void release(WebSocketSession session) {
+        SessionQueue queue = queues.remove(session.getId());
+        if (queue == null) {
+            return;
+        }
+        synchronized (queue) {
+            discard(queue);
+        }
+    }
+
+    /**
+     * 세션에 남아 있는 전송 대기 메시지 수
+     */
+    public int pendingCount(WebSocketSession session) {
+        SessionQueue queue = queues.get(session.getId());
+        if (queue == null) {
+            return 0;
+        }
+        synchronized (queue) {
+            return queue.pending.size();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        writers.shutdownNow();
+    }
+
+    /**
+     * 세션 대기열이 빌 때까지 순서대로 전송 (세션당 하나의 writer만 실행됨)
+     */
+    private void drain(SessionQueue queue) {
+        while (true) {
+            Outbound next;
+            synchronized (queue) {
+                next = queue.pending.pollFirst();
+                if (next == null || queue.closed) {
+                    queue.writing = false;
+                    queue.writeStartedNanos = 0;
+                    return;
+                }
+                queue.bytes -= next.size();
+                queuedMessages.decrementAndGet();
+                queuedBytes.addAndGet(-next.size());
+                queue.writeStartedNanos = System.nanoTime();
+            }
+
+            try {
+                queue.session.sendMessage(next.message());
+            } catch (IOException | RuntimeException e) {
+                log.warn("제어 세션 메시지 전송 실패: sessionId=[{}]", queue.session.getId(), e);
+                synchronized (queue) {
+                    queue.writing = false;
+                    queue.writeStartedNanos = 0;
+                    discard(queue);
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean exceedsLimit(SessionQueue queue, Outbound message) {
+        // 대기열이 비어 있으면 한도보다 큰 메시지도 한 건은 허용
+        return !queue.pending.isEmpty() && queue.bytes + message.size() > bufferSizeLimit;
+    }
+
+    /**
+     * 가장 오래된 DROP_OLDEST 메시지를 하나 제거 (락을 잡은 상태에서 호출)
+     *
+     * @return 제거한 메시지가 있으면 true
+     */
+    private boolean evictOldestDroppable(SessionQueue queue) {
+        Iterator<Outbound> iterator = queue.pending.iterator();
+        while (iterator.hasNext()) {
+            Outbound candidate = iterator.next();
+            if (candidate.policy() == OverflowPolicy.DROP_OLDEST) {
+                iterator.remove();
+                queue.bytes -= candidate.size();
+                queuedMessages.decrementAndGet();
+                queuedBytes.addAndGet(-candidate.size());
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 대기열을 닫고 남은 메시지를 버림 (락을 잡은 상태에서 호출)
+     */
+    private void discard(SessionQueue queue) {
+        queue.closed = true;
+        queuedMessages.addAndGet(-queue.pending.size());
+        queuedBytes.addAndGet(-queue.bytes);
+        queue.pending.clear();
+        queue.bytes = 0;
+    }
+
+    private void close(SessionQueue queue, String reason) {
+        queues.remove(queue.session.getId(), queue);
+        log.warn("제어 세션이 메시지를 따라오지 못해 연결을 닫음: sessionId=[{}], reason=[{}]",
+                queue.session.getId(), reason);
+        close(queue.session, CloseStatus.SESSION_NOT_RELIABLE.withReason(reason));
+    }
+
+    /**
+     * 세션별 대기열 상태 (queue 자체를 락으로 사용)
+     */
+    private static final class SessionQueue {
+
+        private final WebSocketSession session;
+        private final Deque<Outbound> pending = new ArrayDeque<>();
+        private long bytes;
+        private boolean writing;
+        private boolean closed;
+        private volatile long writeStartedNanos;
+
+        private SessionQueue(WebSocketSession session) {
+            this.session = session;
+        }
+    }
+
+    /**
+     * 여러 세션이 함께 쓰는 전송 메시지 (TextMessage는 불변이므로 writer 간에 공유해도 안전)
+     *
+     * @param message 전송할 텍스트 메시지
+     * @param size 버퍼 한도 계산에 쓰는 UTF-8 바이트 수
+     */
+    public record SharedMessage(TextMessage message, int size) {
+
+        public static SharedMessage of(String json) {
+            return new SharedMessage(new TextMessage(json), json.getBytes(StandardCharsets.UTF_8).length);
+        }
+    }
+
+    private record Outbound(WebSocketMessage<?> message, OverflowPolicy policy, int size) {
+    }
+}
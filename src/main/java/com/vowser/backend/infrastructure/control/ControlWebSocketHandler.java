@@ -1,29 +1,38 @@
 package com.vowser.backend.infrastructure.control;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.application.service.ContributionOutboxService;
 import com.vowser.backend.application.service.ControlService;
-import com.vowser.backend.application.service.speech.McpIntegrationService;
 import com.vowser.backend.common.constants.ErrorMessages;
 import com.vowser.backend.infrastructure.control.tool.BrowserTool;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PongMessage;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
 
 /**
  * 제어용 WebSocket 핸들러
  *
  * 브라우저 제어 작업을 위한 WebSocket 연결과 메시지를 처리
  * 클라이언트로부터의 툴 실행 요청을 처리하고 세션 생명주기를 관리
+ * 수신 메시지는 한 번만 토큰화하여 최상위 필드로 종류를 판별하고, 같은 토큰으로 종류별 DTO에 바인딩하여 처리
+ * 도구 실행은 BrowserToolExecutor의 가상 스레드에서 세션별 순서대로 수행하며,
+ * 응답은 세션별 전송 대기열(ControlSessionOutbound)을 거쳐 전송
+ * 경로 실행 단계의 확인 응답은 NavigationPathExecutor로 전달
  */
 
 @Slf4j
@@ -31,81 +40,163 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ControlWebSocketHandler extends TextWebSocketHandler {
 
+    private static final String CONTRIBUTION = "save_contribution_path";
+    private static final String CALL_TOOL = "call_tool";
+    private static final String NAVIGATION_STEP_ACK = "navigation_step_ack";
+
     private final ControlService controlService;
     private final ToolRegistry toolRegistry;
-    private final McpIntegrationService mcpIntegrationService;
+    private final ContributionOutboxService contributionOutboxService;
+    private final ControlSessionOutbound sessionOutbound;
+    private final BrowserToolExecutor toolExecutor;
+    private final NavigationPathExecutor pathExecutor;
     private final ObjectMapper objectMapper;
 
+    private final Map<String, InboundRoute<?>> routes = Map.of(
+            CONTRIBUTION, new InboundRoute<>(ControlDto.ContributionMessage.class, this::handleContributionMessage),
+            CALL_TOOL, new InboundRoute<>(ControlDto.CallToolRequest.class, this::handleToolRequest),
+            NAVIGATION_STEP_ACK, new InboundRoute<>(ControlDto.NavigationStepAck.class, this::handleNavigationStepAck));
+
     @Override
     public void afterConnectionEstablished(WebSocketSession session) {
-        controlService.registerSession(session);
+        if (!controlService.registerSession(session)) {
+            return;
+        }
         log.info("웹소켓 연결 설정 완료: sessionId=[{}], remoteAddress=[{}]", 
                 session.getId(), session.getRemoteAddress());
 
         sendWelcomeMessage(session);
+        sendSessionInfo(session);
     }
 
     @Override
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        controlService.touch(session);
         String payload = message.getPayload();
         log.info("웹소켓 메시지 수신: sessionId=[{}], messageLength=[{}]",
                 session.getId(), payload.length());
 
         try {
-            JsonNode jsonNode = objectMapper.readTree(payload);
+            InboundFrame frame = readFrame(payload);
+            InboundRoute<?> route = routes.getOrDefault(frame.type(), routes.get(CALL_TOOL));
+            log.debug("웹소켓 메시지 분류: sessionId=[{}], messageType=[{}]", session.getId(), frame.type());
 
-            log.debug("수신된 JSON 구조: {}", jsonNode.toString().substring(0, Math.min(200, jsonNode.toString().length())));
+            route.dispatch(session, frame.tokens());
 
-            // 기여모드 메시지 확인 (type 필드가 있는 경우)
-            if (jsonNode.has("type") && "save_contribution_path".equals(jsonNode.get("type").asText())) {
-                log.info("기여모드 메시지 감지됨 (type 필드): sessionId=[{}]", session.getId());
-                handleContributionMessage(session, payload);
-                return;
-            }
+        } catch (JsonProcessingException e) {
+            log.error("메시지 JSON 파싱 실패: sessionId=[{}], message=[{}]", session.getId(), payload, e);
+            sendErrorResponse(session, ErrorMessages.WebSocket.INVALID_JSON_FORMAT + e.getMessage());
+        } catch (Exception e) {
+            log.error("메시지 처리 중 예상치 못한 오류 발생: sessionId=[{}]", session.getId(), e);
+            sendErrorResponse(session, ErrorMessages.WebSocket.MESSAGE_PROCESSING_FAILED + e.getMessage());
+        }
+    }
 
-            // 기여모드 메시지 확인 (legacy format: sessionId, task, steps 필드로 판단)
-            if (jsonNode.has("sessionId") && jsonNode.has("task") && jsonNode.has("steps")
-                && !jsonNode.has("toolName")) {
-                log.info("기여모드 메시지 감지됨 (legacy format): sessionId=[{}]", session.getId());
-                handleContributionMessage(session, payload);
-                return;
+    /**
+     * 메시지를 한 번만 토큰화하면서 최상위 필드로 종류를 판별하고, 토큰은 바인딩용으로 버퍼에 담아 둠
+     * type 필드가 있으면 그 값, sessionId/task/steps만 있는 기존 기여모드 형식은 기여모드,
+     * 그 외에는 툴 실행 요청으로 봄
+     */
+    private InboundFrame readFrame(String payload) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            TokenBuffer tokens = new TokenBuffer(parser);
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                tokens.copyCurrentStructure(parser);
+                return new InboundFrame(CALL_TOOL, tokens);
             }
 
-            // 기존 툴 실행 메시지 처리
-            ControlDto.CallToolRequest request = objectMapper.readValue(payload, ControlDto.CallToolRequest.class);
-            log.debug("도구 실행 요청 파싱 완료: toolName=[{}], argsCount=[{}]",
-                    request.getToolName(), request.getArgs() != null ? request.getArgs().size() : 0);
-
-            BrowserTool<?> tool = toolRegistry.getTool(request.getToolName());
-            if (tool == null) {
-                sendErrorResponse(session, ErrorMessages.Tool.TOOL_NOT_FOUND + request.getToolName());
-                return;
+            String type = null;
+            boolean hasSessionId = false;
+            boolean hasTask = false;
+            boolean hasSteps = false;
+            boolean hasToolName = false;
+            tokens.writeStartObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                tokens.writeFieldName(fieldName);
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                    case "type" -> type = valueToken == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    case "sessionId" -> hasSessionId = true;
+                    case "task" -> hasTask = true;
+                    case "steps" -> hasSteps = true;
+                    case "toolName" -> hasToolName = true;
+                    default -> { }
+                }
+                tokens.copyCurrentStructure(parser);
             }
+            tokens.writeEndObject();
 
-            if (!tool.isAvailable()) {
-                sendErrorResponse(session, ErrorMessages.Tool.TOOL_NOT_AVAILABLE + request.getToolName());
-                return;
+            if (type != null && routes.containsKey(type)) {
+                return new InboundFrame(type, tokens);
             }
+            if (hasSessionId && hasTask && hasSteps && !hasToolName) {
+                return new InboundFrame(CONTRIBUTION, tokens);
+            }
+            return new InboundFrame(CALL_TOOL, tokens);
+        }
+    }
 
-            ControlDto.ToolResult result = executeTool(tool, request.getArgs());
+    /**
+     * 툴 실행 요청을 처리 (실행은 비동기로 진행되며 완료되면 결과를 전송)
+     */
+    private void handleToolRequest(WebSocketSession session, ControlDto.CallToolRequest request) {
+        log.debug("도구 실행 요청 파싱 완료: toolName=[{}], argsCount=[{}]",
+                request.getToolName(), request.getArgs() != null ? request.getArgs().size() : 0);
+
+        BrowserTool<?> tool = toolRegistry.getTool(request.getToolName());
+        if (tool == null) {
+            sendErrorResponse(session, ErrorMessages.Tool.TOOL_NOT_FOUND + request.getToolName());
+            return;
+        }
+
+        if (!tool.isAvailable()) {
+            sendErrorResponse(session, ErrorMessages.Tool.TOOL_NOT_AVAILABLE + request.getToolName());
+            return;
+        }
+
+        toolExecutor.submit(session.getId(), tool.getName(), () -> executeTool(tool, request.getArgs()))
+                .whenComplete((result, error) -> {
+                    if (result != null) {
+                        sendToolResult(session, request.getToolName(), result);
+                    } else if (!(error instanceof CancellationException)) {
+                        log.error("도구 실행 중 오류 발생: sessionId=[{}], toolName=[{}]",
+                                session.getId(), request.getToolName(), error);
+                        sendErrorResponse(session, ErrorMessages.Tool.TOOL_EXECUTION_FAILED + error.getMessage());
+                    }
+                });
+    }
 
+    /**
+     * 경로 실행 단계의 확인 응답을 처리
+     */
+    private void handleNavigationStepAck(WebSocketSession session, ControlDto.NavigationStepAck ack) {
+        log.debug("경로 단계 확인 응답 수신: executionId=[{}], stepIndex=[{}], success=[{}]",
+                ack.getExecutionId(), ack.getStepIndex(), ack.isSuccess());
+        pathExecutor.acknowledge(session, ack);
+    }
+
+    private void sendToolResult(WebSocketSession session, String toolName, ControlDto.ToolResult result) {
+        try {
             String responseJson = objectMapper.writeValueAsString(result);
-            session.sendMessage(new TextMessage(responseJson));
+            sessionOutbound.send(session, responseJson, ControlSessionOutbound.OverflowPolicy.CLOSE);
 
             log.info("도구 실행 완료 및 응답 전송: sessionId=[{}], toolName=[{}], success=[{}]",
-                    session.getId(), request.getToolName(), !result.isError());
-
+                    session.getId(), toolName, !result.isError());
         } catch (JsonProcessingException e) {
-            log.error("메시지 JSON 파싱 실패: sessionId=[{}], message=[{}]", session.getId(), payload, e);
-            sendErrorResponse(session, ErrorMessages.WebSocket.INVALID_JSON_FORMAT + e.getMessage());
-        } catch (Exception e) {
-            log.error("메시지 처리 중 예상치 못한 오류 발생: sessionId=[{}]", session.getId(), e);
-            sendErrorResponse(session, ErrorMessages.WebSocket.MESSAGE_PROCESSING_FAILED + e.getMessage());
+            log.error("도구 실행 결과 직렬화 실패: sessionId=[{}], toolName=[{}]", session.getId(), toolName, e);
         }
     }
 
+    @Override
+    protected void handlePongMessage(WebSocketSession session, PongMessage message) {
+        controlService.touch(session);
+    }
+
     @Override
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        toolExecutor.cancel(session.getId());
+        pathExecutor.cancel(session);
         controlService.unregisterSession(session);
         log.info("웹소켓 연결 종료: sessionId=[{}], status=[{}], reason=[{}]", 
                 session.getId(), status.getCode(), status.getReason());
@@ -173,7 +264,7 @@ public class ControlWebSocketHandler extends TextWebSocketHandler {
             );
             
             String errorJson = objectMapper.writeValueAsString(errorResult);
-            session.sendMessage(new TextMessage(errorJson));
+            sessionOutbound.send(session, errorJson, ControlSessionOutbound.OverflowPolicy.CLOSE);
             
             log.debug("오류 응답 전송 완료: sessionId=[{}], error=[{}]", session.getId(), errorMessage);
             
@@ -186,38 +277,36 @@ public class ControlWebSocketHandler extends TextWebSocketHandler {
      * 기여모드 메시지를 처리
      *
      * @param session WebSocket 세션
-     * @param payload 기여모드 메시지 JSON
+     * @param contributionMessage 기여모드 메시지
      */
-    private void handleContributionMessage(WebSocketSession session, String payload) {
-        try {
-            JsonNode jsonNode = objectMapper.readTree(payload);
-
-            ControlDto.ContributionMessage contributionMessage = new ControlDto.ContributionMessage();
-            contributionMessage.setType("save_contribution_path");
-            contributionMessage.setSessionId(jsonNode.get("sessionId").asText());
-            contributionMessage.setTask(jsonNode.get("task").asText());
-
-            List<ControlDto.ContributionStep> steps = objectMapper.convertValue(
-                jsonNode.get("steps"),
-                objectMapper.getTypeFactory().constructCollectionType(List.class, ControlDto.ContributionStep.class)
-            );
-            contributionMessage.setSteps(steps);
-
-            if (jsonNode.has("isPartial")) {
-                contributionMessage.setPartial(jsonNode.get("isPartial").asBoolean());
-            }
-            if (jsonNode.has("isComplete")) {
-                contributionMessage.setComplete(jsonNode.get("isComplete").asBoolean());
-            }
-            if (jsonNode.has("totalSteps")) {
-                contributionMessage.setTotalSteps(jsonNode.get("totalSteps").asInt());
-            }
-
-            log.info("기여모드 메시지 수신: sessionId=[{}], contributionSessionId=[{}], stepCount=[{}]",
-                    session.getId(), contributionMessage.getSessionId(), contributionMessage.getSteps().size());
-
-            mcpIntegrationService.sendContributionData(contributionMessage);
+    private void handleContributionMessage(WebSocketSession session, ControlDto.ContributionMessage contributionMessage) {
+        if (contributionMessage.getSessionId() == null || contributionMessage.getSteps() == null) {
+            sendContributionErrorResponse(session, "기여모드 데이터에 sessionId 또는 steps가 없습니다.");
+            return;
+        }
+        contributionMessage.setType(CONTRIBUTION);
+
+        log.info("기여모드 메시지 수신: sessionId=[{}], contributionSessionId=[{}], stepCount=[{}]",
+                session.getId(), contributionMessage.getSessionId(), contributionMessage.getSteps().size());
+
+        // MCP 서버 전송은 outbox가 연결 상태에 맞춰 처리하므로 여기서는 저장만 함
+        // DB 저장은 블로킹이므로 outbox가 I/O 스레드 밖에서 기여모드 세션의 도착 순서대로 실행
+        contributionOutboxService.enqueueAsync(contributionMessage)
+                .whenComplete((stored, error) -> {
+                    if (error == null) {
+                        sendContributionResponse(session, contributionMessage);
+                        return;
+                    }
+                    Throwable cause = error instanceof CompletionException && error.getCause() != null
+                            ? error.getCause() : error;
+                    log.error("기여모드 메시지 처리 실패: sessionId=[{}]", session.getId(), cause);
+                    sendContributionErrorResponse(session,
+                            "기여모드 데이터 처리 중 오류가 발생했습니다: " + cause.getMessage());
+                });
+    }
 
+    private void sendContributionResponse(WebSocketSession session, ControlDto.ContributionMessage contributionMessage) {
+        try {
             ControlDto.ContributionResponse response = new ControlDto.ContributionResponse(
                     "contribution_response",
                     contributionMessage.getSessionId(),
@@ -227,14 +316,13 @@ public class ControlWebSocketHandler extends TextWebSocketHandler {
             );
 
             String responseJson = objectMapper.writeValueAsString(response);
-            session.sendMessage(new TextMessage(responseJson));
+            sessionOutbound.send(session, responseJson, ControlSessionOutbound.OverflowPolicy.CLOSE);
 
             log.info("기여모드 처리 완료: sessionId=[{}], contributionSessionId=[{}]",
                     session.getId(), contributionMessage.getSessionId());
 
-        } catch (Exception e) {
-            log.error("기여모드 메시지 처리 실패: sessionId=[{}]", session.getId(), e);
-            sendContributionErrorResponse(session, "기여모드 데이터 처리 중 오류가 발생했습니다: " + e.getMessage());
+        } catch (JsonProcessingException e) {
+            log.error("기여모드 응답 직렬화 실패: sessionId=[{}]", session.getId(), e);
         }
     }
 
@@ -255,7 +343,7 @@ public class ControlWebSocketHandler extends TextWebSocketHandler {
             );
 
             String errorJson = objectMapper.writeValueAsString(errorResponse);
-            session.sendMessage(new TextMessage(errorJson));
+            sessionOutbound.send(session, errorJson, ControlSessionOutbound.OverflowPolicy.CLOSE);
 
             log.debug("기여모드 오류 응답 전송 완료: sessionId=[{}], error=[{}]", session.getId(), errorMessage);
 
@@ -282,7 +370,7 @@ public class ControlWebSocketHandler extends TextWebSocketHandler {
             );
 
             String welcomeJson = objectMapper.writeValueAsString(welcomeResult);
-            session.sendMessage(new TextMessage(welcomeJson));
+            sessionOutbound.send(session, welcomeJson, ControlSessionOutbound.OverflowPolicy.CLOSE);
 
             log.debug("환영 메시지 전송 완료: sessionId=[{}]", session.getId());
 
@@ -290,4 +378,51 @@ public class ControlWebSocketHandler extends TextWebSocketHandler {
             log.warn("환영 메시지 전송 실패: sessionId=[{}]", session.getId(), e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 재연결에 쓸 sessionId와 재연결 토큰을 전송
+     */
+    private void sendSessionInfo(WebSocketSession session) {
+        try {
+            ControlDto.SessionInfo sessionInfo = new ControlDto.SessionInfo("session_info",
+                    controlService.getRoutingKey(session), controlService.getReconnectToken(session));
+            sessionOutbound.send(session, objectMapper.writeValueAsString(sessionInfo),
+                    ControlSessionOutbound.OverflowPolicy.CLOSE);
+        } catch (JsonProcessingException e) {
+            log.warn("세션 정보 전송 실패: sessionId=[{}]", session.getId(), e);
+        }
+    }
+
+    /**
+     * 메시지 종류별 처리기 (대상 DTO로 한 번만 바인딩하여 전달)
+     */
+    @FunctionalInterface
+    private interface InboundHandler<T> {
+        void handle(WebSocketSession session, T message) throws Exception;
+    }
+
+    private final class InboundRoute<T> {
+
+        private final Class<T> messageType;
+        private final InboundHandler<T> handler;
+
+        private InboundRoute(Class<T> messageType, InboundHandler<T> handler) {
+            this.messageType = messageType;
+            this.handler = handler;
+        }
+
+        private void dispatch(WebSocketSession session, TokenBuffer tokens) throws Exception {
+            T message;
+            try (JsonParser parser = tokens.asParser(objectMapper)) {
+                message = objectMapper.readValue(parser, messageType);
+            }
+            handler.handle(session, message);
+        }
+    }
+
+    /**
+     * 판별한 메시지 종류와 한 번 토큰화한 메시지 본문
+     */
+    private record InboundFrame(String type, TokenBuffer tokens) {
+    }
+}
@@ -0,0 +1,324 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.api.dto.NavigationDto;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.OverflowPolicy;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 네비게이션 경로 실행기
+ *
+ * 경로의 단계를 한 번에 넘기지 않고 하나씩 보내며 클라이언트의 확인 응답으로 진행 상황을 추적함
+ * 페이지가 바뀌지 않는 단계는 확인 응답을 기다리는 동안 다음 단계를 미리 보내고(최대 maxInFlight개),
+ * 페이지가 바뀌는 단계(barrierActions) 뒤에서는 확인 응답을 받은 뒤에 다음 단계를 보냄
+ *
+ * 실패했거나 제한 시간 안에 확인 응답이 없는 단계는 그 단계부터 다시 보내고,
+ * 재시도 횟수를 넘기면 실행을 실패로 끝냄 (단계별 소요 시간은 지표와 실행 결과로 보고)
+ */
+@Slf4j
+@Component
+public class NavigationPathExecutor {
+
+    private final ControlConfig.Navigation config;
+    private final ControlSessionOutbound sessionOutbound;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, Execution> executions = new ConcurrentHashMap<>();
+    // 단계마다 락 안에서 등록하지 않도록 한 번 등록한 타이머를 재사용
+    private final Timer succeededExecutionTimer;
+    private final Timer failedExecutionTimer;
+    private final ConcurrentHashMap<StepTimerKey, Timer> stepTimers = new ConcurrentHashMap<>();
+
+    public NavigationPathExecutor(ControlConfig controlConfig, ControlSessionOutbound sessionOutbound,
+                                  ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        this.config = controlConfig.getNavigation();
+        this.sessionOutbound = sessionOutbound;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.succeededExecutionTimer = executionTimer("success");
+        this.failedExecutionTimer = executionTimer("failed");
+    }
+
+    /**
+     * 시작한 경로 실행
+     *
+     * @param executionId 단계 명령과 확인 응답에 쓰는 실행 ID
+     * @param completion 실행이 끝나면 결과로 완료됨
+     */
+    public record PathExecution(String executionId,
+                                CompletableFuture<ControlDto.NavigationExecutionResult> completion) {
+    }
+
+    /**
+     * 세션에서 경로 실행을 시작하고 첫 단계들을 전송
+     *
+     * @param session 단계를 실행할 클라이언트 세션
+     * @param steps 실행할 단계 목록
+     * @return 시작한 실행
+     */
+    public PathExecution start(WebSocketSession session, List<NavigationDto.NavigationStep> steps) {
+        Execution execution = new Execution(UUID.randomUUID().toString(), session, List.copyOf(steps));
+        executions.put(execution.id, execution);
+        log.info("경로 실행 시작: executionId=[{}], sessionId=[{}], totalSteps=[{}]",
+                execution.id, session.getId(), steps.size());
+
+        synchronized (execution) {
+            if (steps.isEmpty()) {
+                finish(execution, true, null, "실행할 단계가 없습니다.");
+            } else {
+                pump(execution, System.nanoTime());
+            }
+        }
+        return new PathExecution(execution.id, execution.completion);
+    }
+
+    /**
+     * 클라이언트의 단계 확인 응답을 반영하고 다음 단계를 전송
+     * 이전 시도에 대한 응답이나 다른 세션에서 온 응답은 무시
+     */
+    public void acknowledge(WebSocketSession session, ControlDto.NavigationStepAck ack) {
+        Execution execution = ack.getExecutionId() != null ? executions.get(ack.getExecutionId()) : null;
+        if (execution == null || !execution.session.getId().equals(session.getId())) {
+            log.debug("알 수 없는 경로 실행의 확인 응답을 무시: sessionId=[{}], executionId=[{}]",
+                    session.getId(), ack.getExecutionId());
+            return;
+        }
+
+        long now = System.nanoTime();
+        synchronized (execution) {
+            int index = ack.getStepIndex();
+            if (execution.finished || index < execution.acked || index >= execution.nextToSend
+                    || ack.getAttempt() != execution.attempts[index]) {
+                log.debug("지난 시도의 확인 응답을 무시: executionId=[{}], stepIndex=[{}], attempt=[{}]",
+                        execution.id, index, ack.getAttempt());
+                return;
+            }
+
+            long latency = now - execution.sentAt[index];
+            if (!ack.isSuccess()) {
+                recordStep(execution, index, "failed", latency);
+                fail(execution, index, ack.getError(), now);
+                return;
+            }
+
+            recordStep(execution, index, "success", latency);
+            execution.latencies[index] = latency;
+            execution.done[index] = true;
+            while (execution.acked < execution.steps.size() && execution.done[execution.acked]) {
+                execution.acked++;
+            }
+
+            if (execution.acked == execution.steps.size()) {
+                finish(execution, true, null, "모든 단계를 실행했습니다.");
+            } else {
+                pump(execution, now);
+            }
+        }
+    }
+
+    /**
+     * 세션이 닫히면 그 세션의 실행을 모두 중단
+     */
+    public void cancel(WebSocketSession session) {
+        for (Execution execution : executions.values()) {
+            if (execution.session.getId().equals(session.getId())) {
+                synchronized (execution) {
+                    if (!execution.finished) {
+                        finish(execution, false, execution.acked, "세션이 종료되어 실행을 중단했습니다.");
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 확인 응답 제한 시간을 넘긴 단계를 실패로 처리
+     */
+    @Scheduled(fixedDelayString = "${control.navigation.sweep-interval:1s}")
+    public void sweepTimeouts() {
+        sweepTimeouts(System.nanoTime());
+    }
+
+    void sweepTimeouts(long nowNanos) {
+        long ackTimeout = config.getAckTimeout().toNanos();
+        for (Execution execution : executions.values()) {
+            synchronized (execution) {
+                // 가장 먼저 보낸 미확인 단계만 보면 됨 (뒤 단계는 더 늦게 보냈으므로)
+                int head = execution.acked;
+                if (execution.finished || head >= execution.nextToSend) {
+                    continue;
+                }
+                long waited = nowNanos - execution.sentAt[head];
+                if (waited > ackTimeout) {
+                    recordStep(execution, head, "timeout", waited);
+                    fail(execution, head, "확인 응답 시간 초과", nowNanos);
+                }
+            }
+        }
+    }
+
+    /**
+     * 진행 중인 경로 실행 수
+     */
+    public int getActiveExecutionCount() {
+        return executions.size();
+    }
+
+    /**
+     * 보낼 수 있는 만큼 다음 단계를 전송 (락을 잡은 상태에서 호출)
+     */
+    private void pump(Execution execution, long nowNanos) {
+        int maxInFlight = Math.max(1, config.getMaxInFlight());
+        while (execution.nextToSend < execution.steps.size()
+                && execution.nextToSend - execution.acked < maxInFlight) {
+            int previous = execution.nextToSend - 1;
+            if (previous >= execution.acked && config.isBarrier(execution.steps.get(previous).getAction())) {
+                // 페이지가 바뀌는 단계의 확인 응답 전에는 다음 단계를 보내지 않음
+                return;
+            }
+
+            int index = execution.nextToSend;
+            execution.attempts[index]++;
+            execution.sentAt[index] = nowNanos;
+            if (!send(execution, index)) {
+                finish(execution, false, index, "단계를 전송하지 못했습니다.");
+                return;
+            }
+            execution.nextToSend++;
+        }
+    }
+
+    /**
+     * 단계 실패 처리: 재시도할 수 있으면 그 단계부터 다시 보내고, 아니면 실행을 실패로 끝냄
+     * (락을 잡은 상태에서 호출)
+     */
+    private void fail(Execution execution, int index, String reason, long nowNanos) {
+        if (execution.failures[index] >= config.getMaxRetries()) {
+            log.warn("경로 실행 실패: executionId=[{}], stepIndex=[{}], reason=[{}]", execution.id, index, reason);
+            finish(execution, false, index, "단계 실행에 실패했습니다: " + reason);
+            return;
+        }
+
+        execution.failures[index]++;
+        log.info("경로 단계 재시도: executionId=[{}], stepIndex=[{}], retry=[{}], reason=[{}]",
+                execution.id, index, execution.failures[index], reason);
+        // 미리 보낸 뒤 단계는 클라이언트가 버리므로 실패한 단계부터 다시 보냄
+        for (int i = index; i < execution.nextToSend; i++) {
+            execution.done[i] = false;
+        }
+        execution.nextToSend = index;
+        pump(execution, nowNanos);
+    }
+
+    private boolean send(Execution execution, int index) {
+        ControlDto.NavigationStepCommand command = new ControlDto.NavigationStepCommand(
+                "navigation_step", execution.id, index, execution.steps.size(),
+                execution.attempts[index], execution.steps.get(index));
+        try {
+            return sessionOutbound.send(execution.session, objectMapper.writeValueAsString(command),
+                    OverflowPolicy.CLOSE);
+        } catch (JsonProcessingException e) {
+            log.error("경로 단계 직렬화 실패: executionId=[{}], stepIndex=[{}]", execution.id, index, e);
+            return false;
+        }
+    }
+
+    /**
+     * 실행을 끝내고 결과를 전송 (락을 잡은 상태에서 호출)
+     */
+    private void finish(Execution execution, boolean success, Integer failedStepIndex, String message) {
+        execution.finished = true;
+        executions.remove(execution.id, execution);
+
+        List<Long> latencies = new ArrayList<>(execution.acked);
+        for (int i = 0; i < execution.acked; i++) {
+            latencies.add(TimeUnit.NANOSECONDS.toMillis(execution.latencies[i]));
+        }
+        ControlDto.NavigationExecutionResult result = new ControlDto.NavigationExecutionResult(
+                "navigation_execution_result", execution.id, success, execution.acked,
+                execution.steps.size(), failedStepIndex, message, latencies);
+
+        (success ? succeededExecutionTimer : failedExecutionTimer)
+                .record(System.nanoTime() - execution.startedAt, TimeUnit.NANOSECONDS);
+
+        if (execution.session.isOpen()) {
+            try {
+                sessionOutbound.send(execution.session, objectMapper.writeValueAsString(result), OverflowPolicy.CLOSE);
+            } catch (JsonProcessingException e) {
+                log.error("경로 실행 결과 직렬화 실패: executionId=[{}]", execution.id, e);
+            }
+        }
+
+        log.info("경로 실행 종료: executionId=[{}], success=[{}], completedSteps=[{}], totalSteps=[{}]",
+                execution.id, success, execution.acked, execution.steps.size());
+        execution.completion.complete(result);
+    }
+
+    private void recordStep(Execution execution, int index, String result, long latencyNanos) {
+        String action = execution.steps.get(index).getAction();
+        stepTimers.computeIfAbsent(new StepTimerKey(action != null ? action : "unknown", result), key ->
+                        Timer.builder("control.navigation.step")
+                                .description("네비게이션 단계 전송부터 확인 응답까지의 시간")
+                                .tag("action", key.action())
+                                .tag("result", key.result())
+                                .register(meterRegistry))
+                .record(latencyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer executionTimer(String result) {
+        return Timer.builder("control.navigation.execution")
+                .description("네비게이션 경로 실행 시간")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record StepTimerKey(String action, String result) {
+    }
+
+    /**
+     * 실행 상태 (execution 자체를 락으로 사용)
+     * [0, acked)는 확인된 단계, [acked, nextToSend)는 확인 응답을 기다리는 단계
+     */
+    private static final class Execution {
+
+        private final String id;
+        private final WebSocketSession session;
+        private final List<NavigationDto.NavigationStep> steps;
+        private final CompletableFuture<ControlDto.NavigationExecutionResult> completion = new CompletableFuture<>();
+        private final long startedAt = System.nanoTime();
+        private final int[] attempts;
+        private final int[] failures;
+        private final long[] sentAt;
+        private final long[] latencies;
+        private final boolean[] done;
+        private int acked;
+        private int nextToSend;
+        private boolean finished;
+
+        private Execution(String id, WebSocketSession session, List<NavigationDto.NavigationStep> steps) {
+            this.id = id;
+            this.session = session;
+            this.steps = steps;
+            this.attempts = new int[steps.size()];
+            this.failures = new int[steps.size()];
+            this.sentAt = new long[steps.size()];
+            this.latencies = new long[steps.size()];
+            this.done = new boolean[steps.size()];
+        }
+    }
+}
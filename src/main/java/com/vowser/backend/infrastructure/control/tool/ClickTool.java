@@ -4,12 +4,12 @@ import com.vowser.backend.api.dto.ControlDto;
 import com.vowser.backend.application.service.ControlService;
 import com.vowser.backend.common.constants.ErrorMessages;
 import com.vowser.backend.common.constants.ToolConstants;
+import com.vowser.backend.infrastructure.control.BrowserCommandEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Click Tool Implementation
@@ -23,6 +23,7 @@ import java.util.Map;
 public class ClickTool implements BrowserTool<ControlDto.ClickArgs> {
 
     private final ControlService controlService;
+    private final BrowserCommandEncoder commandEncoder;
 
     @Override
     public String getName() {
@@ -52,12 +53,7 @@ public class ClickTool implements BrowserTool<ControlDto.ClickArgs> {
                 );
             }
 
-            Map<String, Object> command = Map.of(
-                "action", ToolConstants.ToolActions.CLICK,
-                "selector", args.getElementId()
-            );
-
-            controlService.sendCommandToClient(command);
+            controlService.sendCommandToClient(commandEncoder.clickAction(args.getElementId()));
 
             String successMessage = String.format("Successfully clicked element: '%s'", args.getElementId());
             log.info("클릭 명령 전송 완료: elementId=[{}]", args.getElementId());
@@ -82,6 +78,6 @@ public class ClickTool implements BrowserTool<ControlDto.ClickArgs> {
 
     @Override
     public boolean isAvailable() {
-        return controlService.getActiveSessionCount() > 0;
+        return controlService.hasActiveSession();
     }
 }
\ No newline at end of file
@@ -4,12 +4,12 @@ import com.vowser.backend.api.dto.ControlDto;
 import com.vowser.backend.application.service.ControlService;
 import com.vowser.backend.common.constants.SpeechConstants;
 import com.vowser.backend.common.constants.ToolConstants;
+import com.vowser.backend.infrastructure.control.BrowserCommandEncoder;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
-import java.util.Map;
 
 /**
  * Go Back Tool Implementation
@@ -23,6 +23,7 @@ import java.util.Map;
 public class GoBackTool implements BrowserTool<ControlDto.GoBackArgs> {
 
     private final ControlService controlService;
+    private final BrowserCommandEncoder commandEncoder;
 
     @Override
     public String getName() {
@@ -44,8 +45,7 @@ public class GoBackTool implements BrowserTool<ControlDto.GoBackArgs> {
         try {
             log.info("뒤로가기 도구 실행");
 
-            Map<String, Object> command = Map.of("action", ToolConstants.ToolActions.GO_BACK);
-            controlService.sendCommandToClient(command);
+            controlService.sendCommandToClient(commandEncoder.goBackAction());
 
             String successMessage = SpeechConstants.Messages.SUCCESS_GO_BACK_COMMAND_SENT;
             log.info("뒤로가기 명령 전송 완료");
@@ -69,6 +69,6 @@ public class GoBackTool implements BrowserTool<ControlDto.GoBackArgs> {
 
     @Override
     public boolean isAvailable() {
-        return controlService.getActiveSessionCount() > 0;
+        return controlService.hasActiveSession();
     }
 }
\ No newline at end of file
@@ -4,6 +4,7 @@ import com.vowser.backend.api.dto.ControlDto;
 import com.vowser.backend.application.service.ControlService;
 import com.vowser.backend.common.constants.ErrorMessages;
 import com.vowser.backend.common.constants.ToolConstants;
+import com.vowser.backend.infrastructure.control.BrowserCommandEncoder;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -14,7 +15,6 @@ import org.springframework.stereotype.Component;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.List;
-import java.util.Map;
 
 /**
  * 특정 URL로의 브라우저 네비게이션 작업을 처리
@@ -26,6 +26,7 @@ import java.util.Map;
 public class NavigationTool implements BrowserTool<NavigationTool.NavigationArgs> {
 
     private final ControlService controlService;
+    private final BrowserCommandEncoder commandEncoder;
 
     @Data
     @NoArgsConstructor
@@ -71,12 +72,7 @@ public class NavigationTool implements BrowserTool<NavigationTool.NavigationArgs
                 );
             }
 
-            Map<String, Object> command = Map.of(
-                "action", ToolConstants.ToolActions.NAVIGATE,
-                "url", url
-            );
-
-            controlService.sendCommandToClient(command);
+            controlService.sendCommandToClient(commandEncoder.navigateAction(url));
 
             String successMessage = String.format("Successfully navigated to: %s", url);
             log.info("네비게이션 명령 전송 완료: url=[{}]", url);
@@ -101,7 +97,7 @@ public class NavigationTool implements BrowserTool<NavigationTool.NavigationArgs
 
     @Override
     public boolean isAvailable() {
-        return controlService.getActiveSessionCount() > 0;
+        return controlService.hasActiveSession();
     }
 
     /**
@@ -0,0 +1,240 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * MCP 요청 입장 제어 대기열
+ *
+ * 연결별 처리 슬롯이 남아 있으면 바로 전송하고, 없으면 우선순위 차선별로 도착 순서대로(FIFO) 대기시킴
+ * 슬롯이 반납되면 차선 가중치 비율대로(smooth weighted round-robin) 차선을 골라 앞쪽부터 다시 배정하며,
+ * 차선 대기열이 가득 차면 요청을 거절
+ * 실제 전송은 락 밖에서 수행하여 소켓 I/O가 입장 처리를 막지 않도록 함
+ */
+class McpAdmissionQueue {
+
+    private final int maxQueued;
+    private final Function<McpPriority, McpConnection> slotAcquirer;
+    private final BiConsumer<McpConnection, McpRequest> dispatcher;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<McpPriority, Lane> lanes = new EnumMap<>(McpPriority.class);
+    private final AtomicInteger queued = new AtomicInteger();
+
+    /**
+     * @param maxQueued 차선별 대기열 최대 크기
+     * @param weights 차선별 가중치 (지정하지 않은 차선은 1)
+     * @param slotAcquirer 해당 우선순위로 처리 슬롯을 확보한 연결을 반환 (여유가 없으면 null)
+     * @param dispatcher 슬롯을 확보한 요청을 해당 연결로 전송
+     */
+    McpAdmissionQueue(int maxQueued, Map<McpPriority, Integer> weights,
+                      Function<McpPriority, McpConnection> slotAcquirer,
+                      BiConsumer<McpConnection, McpRequest> dispatcher,
+                      MeterRegistry meterRegistry) {
+        this.maxQueued = maxQueued;
+        this.slotAcquirer = slotAcquirer;
+        this.dispatcher = dispatcher;
+
+        for (McpPriority priority : McpPriority.values()) {
+            Lane lane = new Lane(Math.max(1, weights.getOrDefault(priority, 1)),
+                    Timer.builder("mcp.admission.wait")
+                            .description("MCP 요청이 처리 슬롯을 얻기까지 기다린 시간")
+                            .tag("lane", priority.tag())
+                            .register(meterRegistry));
+            lanes.put(priority, lane);
+            Gauge.builder("mcp.admission.queued", lane, l -> l.size)
+                    .description("처리 슬롯을 기다리는 MCP 요청 수")
+                    .tag("lane", priority.tag())
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * 요청을 입장시킴
+     * 슬롯이 있으면 즉시 전송되고, 없으면 해당 차선 끝에 추가됨
+     *
+     * @return 차선 대기열이 가득 차서 거절되었으면 false
+     */
+    boolean submit(McpRequest request) {
+        List<Assignment> ready;
+        lock.lock();
+        try {
+            Lane lane = lanes.get(request.getPriority());
+            if (lane.size >= maxQueued) {
+                return false;
+            }
+            lane.waiters.addLast(request);
+            lane.size++;
+            queued.incrementAndGet();
+            ready = pollReady();
+        } finally {
+            lock.unlock();
+        }
+
+        dispatchAll(ready);
+        return true;
+    }
+
+    /**
+     * 슬롯이 반납되었거나 연결이 새로 열렸을 때 대기 중인 요청을 배정
+     */
+    void drain() {
+        if (queued.get() == 0) {
+            return;
+        }
+
+        List<Assignment> ready;
+        lock.lock();
+        try {
+            ready = pollReady();
+        } finally {
+            lock.unlock();
+        }
+
+        dispatchAll(ready);
+    }
+
+    /**
+     * 아직 슬롯을 얻지 못한 요청을 대기열에서 제거
+     *
+     * @return 대기열에 있던 요청이면 true (이미 전송된 경우 false)
+     */
+    boolean remove(McpRequest request) {
+        lock.lock();
+        try {
+            Lane lane = lanes.get(request.getPriority());
+            boolean removed = lane.waiters.remove(request);
+            if (removed) {
+                lane.size--;
+                queued.decrementAndGet();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    int queued() {
+        return queued.get();
+    }
+
+    /**
+     * 가중치 순서대로 차선을 골라 슬롯을 확보할 수 있는 만큼 꺼냄 (락을 잡은 상태에서 호출)
+     * 슬롯을 얻지 못한 차선은 이번 배정에서 제외하고, 호출자가 이미 포기한 요청은 슬롯 없이 버림
+     */
+    private List<Assignment> pollReady() {
+        List<Assignment> ready = null;
+        EnumSet<McpPriority> blocked = EnumSet.noneOf(McpPriority.class);
+
+        int[] turns = new int[lanes.size()];
+        McpPriority priority;
+        while ((priority = nextLane(blocked, turns)) != null) {
+            Lane lane = lanes.get(priority);
+            McpRequest head = lane.waiters.peekFirst();
+            if (head.getResponseFuture().isDone()) {
+                // 배정되지 않은 선택은 차례를 소모하지 않음
+                restoreTurns(turns);
+                lane.poll();
+                queued.decrementAndGet();
+                continue;
+            }
+
+            McpConnection connection = slotAcquirer.apply(priority);
+            if (connection == null) {
+                restoreTurns(turns);
+                blocked.add(priority);
+                continue;
+            }
+
+            lane.poll();
+            queued.decrementAndGet();
+            lane.waitTimer.record(System.nanoTime() - head.getEnqueuedAtNanos(), TimeUnit.NANOSECONDS);
+            if (ready == null) {
+                ready = new ArrayList<>();
+            }
+            ready.add(new Assignment(connection, head));
+        }
+        return ready;
+    }
+
+    /**
+     * 대기 요청이 있는 차선 중 다음 차례를 고름 (smooth weighted round-robin)
+     * 매 선택마다 후보 차선의 누적값에 가중치를 더하고, 가장 큰 차선을 고른 뒤 후보 가중치 합만큼 뺌
+     *
+     * @param turns 선택 전 누적값을 담아둘 배열 (배정에 실패하면 되돌릴 때 사용)
+     */
+    private McpPriority nextLane(EnumSet<McpPriority> blocked, int[] turns) {
+        McpPriority selected = null;
+        int totalWeight = 0;
+        for (Map.Entry<McpPriority, Lane> entry : lanes.entrySet()) {
+            Lane lane = entry.getValue();
+            turns[entry.getKey().ordinal()] = lane.current;
+            if (lane.size == 0 || blocked.contains(entry.getKey())) {
+                continue;
+            }
+            lane.current += lane.weight;
+            totalWeight += lane.weight;
+            if (selected == null || lane.current > lanes.get(selected).current) {
+                selected = entry.getKey();
+            }
+        }
+        if (selected != null) {
+            lanes.get(selected).current -= totalWeight;
+        }
+        return selected;
+    }
+
+    private void restoreTurns(int[] turns) {
+        for (Map.Entry<McpPriority, Lane> entry : lanes.entrySet()) {
+            entry.getValue().current = turns[entry.getKey().ordinal()];
+        }
+    }
+
+    private void dispatchAll(List<Assignment> ready) {
+        if (ready == null) {
+            return;
+        }
+        for (Assignment assignment : ready) {
+            dispatcher.accept(assignment.connection(), assignment.request());
+        }
+    }
+
+    /**
+     * 우선순위 차선 (락을 잡은 상태에서만 변경)
+     */
+    private static final class Lane {
+
+        private final Deque<McpRequest> waiters = new ArrayDeque<>();
+        private final int weight;
+        private final Timer waitTimer;
+        private volatile int size;
+        private int current;
+
+        private Lane(int weight, Timer waitTimer) {
+            this.weight = weight;
+            this.waitTimer = waitTimer;
+        }
+
+        private void poll() {
+            waiters.pollFirst();
+            size--;
+        }
+    }
+
+    private record Assignment(McpConnection connection, McpRequest request) {
+    }
+}
@@ -0,0 +1,173 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 짧은 시간 안에 들어온 MCP 요청을 하나의 배치로 묶어 전송 (micro-batching)
+ *
+ * 첫 요청이 들어온 뒤 maxDelay가 지나거나 maxBatchSize만큼 모이면 한 번에 전송하고,
+ * 배치 응답을 순서대로 각 호출자의 Future에 나눠줌
+ * 배치 전체가 실패하면 묶인 모든 호출자에게 같은 예외를 전달
+ *
+ * @param <T> 요청 항목 타입
+ * @param <R> 항목별 응답 타입
+ */
+@Slf4j
+class McpBatcher<T, R> {
+
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final Function<List<T>, CompletableFuture<List<R>>> flusher;
+    private final ScheduledExecutorService scheduler;
+    private final DistributionSummary batchSizes;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private List<Entry<T, R>> pending = new ArrayList<>();
+    private ScheduledFuture<?> scheduledFlush;
+
+    /**
+     * @param type 메트릭 태그와 스레드 이름에 사용할 MCP 메시지 타입
+     * @param maxBatchSize 한 배치에 담을 최대 항목 수
+     * @param maxDelay 첫 항목이 배치를 기다리는 최대 시간
+     * @param flusher 배치를 전송하고 항목 순서대로 응답을 돌려주는 함수
+     */
+    McpBatcher(String type, int maxBatchSize, Duration maxDelay,
+               Function<List<T>, CompletableFuture<List<R>>> flusher, MeterRegistry meterRegistry) {
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.flusher = flusher;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mcp-batcher-" + type);
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSizes = DistributionSummary.builder("mcp.batch.size")
+                .description("MCP 서버로 한 번에 전송한 배치 크기")
+                .tag("type", type)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 항목을 현재 배치에 추가
+     *
+     * @return 이 항목의 응답
+     */
+    CompletableFuture<R> submit(T item) {
+        CompletableFuture<R> future = new CompletableFuture<>();
+        List<Entry<T, R>> full = null;
+
+        lock.lock();
+        try {
+            pending.add(new Entry<>(item, future));
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (pending.size() == 1) {
+                scheduleFlush();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (full != null) {
+            send(full);
+        }
+        return future;
+    }
+
+    /**
+     * 모여 있는 항목을 즉시 전송
+     */
+    void flush() {
+        List<Entry<T, R>> batch;
+        lock.lock();
+        try {
+            batch = takePending();
+        } finally {
+            lock.unlock();
+        }
+        send(batch);
+    }
+
+    /**
+     * 남은 항목을 전송하고 스케줄러를 종료
+     */
+    void close() {
+        flush();
+        scheduler.shutdownNow();
+    }
+
+    private void scheduleFlush() {
+        try {
+            scheduledFlush = scheduler.schedule(this::flush, maxDelayNanos, TimeUnit.NANOSECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중에는 기다리지 않고 바로 전송되도록 함
+            scheduledFlush = null;
+        }
+    }
+
+    /**
+     * 대기 중인 항목을 꺼내고 예약된 전송을 취소 (락을 잡은 상태에서 호출)
+     */
+    private List<Entry<T, R>> takePending() {
+        if (scheduledFlush != null) {
+            scheduledFlush.cancel(false);
+            scheduledFlush = null;
+        }
+        List<Entry<T, R>> batch = pending;
+        pending = new ArrayList<>();
+        return batch;
+    }
+
+    private void send(List<Entry<T, R>> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        batchSizes.record(batch.size());
+
+        List<T> items = new ArrayList<>(batch.size());
+        for (Entry<T, R> entry : batch) {
+            items.add(entry.item());
+        }
+
+        CompletableFuture<List<R>> response;
+        try {
+            response = flusher.apply(items);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+
+        response.whenComplete((results, ex) -> {
+            if (ex == null && (results == null || results.size() != batch.size())) {
+                ex = new IllegalStateException("MCP 배치 응답 수가 요청 수와 다릅니다: expected="
+                        + batch.size() + ", actual=" + (results == null ? 0 : results.size()));
+            }
+            if (ex != null) {
+                log.warn("MCP 배치 전송 실패: size=[{}]", batch.size(), ex);
+                for (Entry<T, R> entry : batch) {
+                    entry.future().completeExceptionally(ex);
+                }
+                return;
+            }
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).future().complete(results.get(i));
+            }
+        });
+    }
+
+    private record Entry<T, R>(T item, CompletableFuture<R> future) {
+    }
+}
@@ -0,0 +1,172 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.infrastructure.config.McpConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * MCP 요청 서킷 브레이커
+ *
+ * 최근 요청 결과(슬라이딩 윈도우)의 실패율이 기준을 넘으면 열림(OPEN) 상태가 되어 요청을 즉시 거절하고,
+ * 대기 시간이 지나면 반열림(HALF_OPEN) 상태에서 제한된 수의 시험 요청만 통과시킴
+ * 시험 요청이 모두 성공하면 닫힘(CLOSED)으로, 하나라도 실패하면 다시 열림으로 전환
+ */
+@Slf4j
+class McpCircuitBreaker {
+
+    enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final boolean enabled;
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier clock;
+
+    private final boolean[] window;
+    private int windowCount;
+    private int windowIndex;
+    private int windowFailures;
+
+    private volatile State state = State.CLOSED;
+    private long openedAtNanos;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    McpCircuitBreaker(McpConfig.CircuitBreaker config, MeterRegistry meterRegistry) {
+        this(config, meterRegistry, System::nanoTime);
+    }
+
+    McpCircuitBreaker(McpConfig.CircuitBreaker config, MeterRegistry meterRegistry, LongSupplier clock) {
+        this.enabled = config.isEnabled();
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.minimumCalls = Math.max(1, config.getMinimumCalls());
+        this.openDurationNanos = config.getOpenDuration().toNanos();
+        this.halfOpenProbes = Math.max(1, config.getHalfOpenProbes());
+        this.clock = clock;
+        this.window = new boolean[Math.max(minimumCalls, config.getSlidingWindowSize())];
+
+        Gauge.builder("mcp.circuit.state", this, breaker -> breaker.state.ordinal())
+                .description("MCP 서킷 브레이커 상태 (0: 닫힘, 1: 반열림, 2: 열림)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 요청을 보내도 되는지 확인
+     * 반열림 상태에서는 허용된 시험 요청 수만큼만 통과
+     *
+     * @return 통과시키면 true, 즉시 거절해야 하면 false
+     */
+    synchronized boolean tryAcquire() {
+        if (!enabled) {
+            return true;
+        }
+        if (state == State.OPEN) {
+            if (clock.getAsLong() - openedAtNanos < openDurationNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+            probesStarted = 0;
+            probesSucceeded = 0;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    synchronized void onSuccess() {
+        if (!enabled) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            if (++probesSucceeded >= halfOpenProbes) {
+                resetWindow();
+                transitionTo(State.CLOSED);
+            }
+        } else if (state == State.CLOSED) {
+            record(false);
+        }
+    }
+
+    synchronized void onFailure() {
+        if (!enabled) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            open();
+        } else if (state == State.CLOSED) {
+            record(true);
+            if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                open();
+            }
+        }
+    }
+
+    /**
+     * MCP 서버 상태와 무관한 결과 (취소, 로컬 대기열 거절 등)
+     * 반열림 상태의 시험 요청이었다면 다른 요청이 시험할 수 있도록 자리를 돌려줌
+     */
+    synchronized void onIgnored() {
+        if (enabled && state == State.HALF_OPEN && probesStarted > probesSucceeded) {
+            probesStarted--;
+        }
+    }
+
+    State state() {
+        return state;
+    }
+
+    /**
+     * 열림 상태가 끝나기까지 남은 시간 (열림 상태가 아니면 0)
+     */
+    synchronized Duration remainingOpen() {
+        if (state != State.OPEN) {
+            return Duration.ZERO;
+        }
+        return Duration.ofNanos(Math.max(0, openDurationNanos - (clock.getAsLong() - openedAtNanos)));
+    }
+
+    private void open() {
+        openedAtNanos = clock.getAsLong();
+        resetWindow();
+        transitionTo(State.OPEN);
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void resetWindow() {
+        windowCount = 0;
+        windowIndex = 0;
+        windowFailures = 0;
+    }
+
+    private void transitionTo(State next) {
+        if (state != next) {
+            log.warn("MCP 서킷 브레이커 상태 변경: [{}] -> [{}]", state, next);
+            state = next;
+        }
+    }
+}
@@ -0,0 +1,379 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.vowser.backend.common.constants.ErrorMessages;
+import com.vowser.backend.common.constants.NetworkConstants;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 연결 풀에 속한 단일 MCP WebSocket 연결
+ * 연결별 대기 요청, 처리 슬롯, 상태, 재연결을 독립적으로 관리
+ *
+ * 재연결은 공유 스케줄러에서 지수 백오프로 수행하며, 상태 전이를 통해 예약된 재연결이 항상 하나 이하가 되도록 함
+ * 교체된 이전 소켓에서 늦게 도착한 콜백은 무시함
+ */
+@Slf4j
+class McpConnection {
+
+    private static final String SUBPROTOCOL_HEADER = "Sec-WebSocket-Protocol";
+    private static final String EXTENSIONS_HEADER = "Sec-WebSocket-Extensions";
+
+    /**
+     * 연결 상태
+     */
+    enum State {
+        CONNECTING, OPEN, RECONNECT_PENDING, CLOSED
+    }
+
+    /**
+     * 연결에서 수신한 메시지를 처리하는 콜백
+     * 텍스트/바이너리 프레임 모두 UTF-8 JSON 바이트로 전달됨
+     */
+    interface MessageHandler {
+        void onMessage(McpConnection connection, ByteString payload);
+    }
+
+    @Getter
+    private final String name;
+    @Getter
+    private final String url;
+    private final OkHttpClient httpClient;
+    private final MessageHandler messageHandler;
+    private final McpReconnectPolicy reconnectPolicy;
+    private final ScheduledExecutorService reconnectScheduler;
+    private final long unhealthyQueueBytes;
+    private final Runnable capacityListener;
+    private final McpMessageCodec codec;
+    private final McpWireFormat preferredFormat;
+
+    private volatile WebSocket webSocket;
+    private volatile Listener activeListener;
+    private volatile ScheduledFuture<?> pendingReconnect;
+    private volatile long connectedAtNanos;
+    @Getter
+    private volatile McpWireFormat wireFormat = McpWireFormat.JSON;
+    private final AtomicReference<State> state = new AtomicReference<>(State.CONNECTING);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong reconnectAttempts = new AtomicLong();
+
+    private final Map<String, CompletableFuture<ByteString>> pendingRequests = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    McpConnection(String name, String url, OkHttpClient httpClient, MessageHandler messageHandler,
+                  McpReconnectPolicy reconnectPolicy, ScheduledExecutorService reconnectScheduler,
+                  long unhealthyQueueBytes, Runnable capacityListener,
+                  McpMessageCodec codec, McpWireFormat preferredFormat) {
+        this.name = name;
+        this.url = url;
+        this.httpClient = httpClient;
+        this.messageHandler = messageHandler;
+        this.reconnectPolicy = reconnectPolicy;
+        this.reconnectScheduler = reconnectScheduler;
+        this.unhealthyQueueBytes = unhealthyQueueBytes;
+        this.capacityListener = capacityListener;
+        this.codec = codec;
+        this.preferredFormat = preferredFormat;
+    }
+
+    /**
+     * MCP 서버와 WebSocket 연결을 수립
+     */
+    void open() {
+        State current;
+        do {
+            current = state.get();
+            if (current == State.CLOSED) {
+                log.info("애플리케이션 종료 중이므로 MCP 서버 연결을 시도하지 않습니다: connection=[{}]", name);
+                return;
+            }
+        } while (!state.compareAndSet(current, State.CONNECTING));
+
+        try {
+            Request.Builder request = new Request.Builder()
+                    .url(url);
+            if (preferredFormat != McpWireFormat.JSON) {
+                // 서버가 서브프로토콜을 고르지 않으면(기존 서버) JSON으로 동작
+                request.header(SUBPROTOCOL_HEADER,
+                        preferredFormat.subprotocol() + ", " + McpWireFormat.JSON.subprotocol());
+            }
+
+            Listener listener = new Listener();
+            activeListener = listener;
+            webSocket = httpClient.newWebSocket(request.build(), listener);
+            log.debug("MCP 서버 연결 요청 전송: connection=[{}], url=[{}]", name, url);
+
+        } catch (Exception e) {
+            log.error("MCP 서버 연결 요청 실패: connection=[{}], url=[{}]", name, url, e);
+            scheduleReconnect();
+        }
+    }
+
+    /**
+     * 처리 슬롯을 하나 확보
+     *
+     * @param maxInFlight 연결당 최대 처리 중 요청 수
+     * @return 슬롯을 확보했으면 true
+     */
+    boolean tryAcquire(int maxInFlight) {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 슬롯을 확보한 요청을 등록하고 전송
+     * 응답 Future가 어떤 이유로든 완료되면 슬롯을 반납함
+     *
+     * @param requestId 요청 식별자
+     * @param message 전송할 메시지 (협상된 방식으로 직렬화됨)
+     * @param responseFuture 응답을 전달할 Future (전송 실패 시 예외로 완료)
+     */
+    void send(String requestId, Object message, CompletableFuture<ByteString> responseFuture) {
+        pendingRequests.put(requestId, responseFuture);
+        responseFuture.whenComplete((response, ex) -> {
+            pendingRequests.remove(requestId);
+            release();
+        });
+        if (responseFuture.isDone()) {
+            return;
+        }
+
+        try {
+            if (!sendOneWay(message)) {
+                responseFuture.completeExceptionally(
+                        new IllegalStateException("WebSocket 전송 큐가 가득참"));
+            }
+        } catch (JsonProcessingException e) {
+            responseFuture.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 응답을 기다리지 않는 메시지를 전송
+     *
+     * @param message 전송할 메시지 (협상된 방식으로 직렬화됨)
+     * @return 전송 큐에 들어갔으면 true
+     */
+    boolean sendOneWay(Object message) throws JsonProcessingException {
+        WebSocket socket = webSocket;
+        if (socket == null) {
+            return false;
+        }
+        return wireFormat == McpWireFormat.CBOR
+                ? socket.send(codec.encodeBinary(message))
+                : socket.send(codec.encodeText(message));
+    }
+
+    /**
+     * requestId에 해당하는 대기 요청을 응답으로 완료
+     *
+     * @return 대기 중인 요청이 있었으면 true
+     */
+    boolean complete(String requestId, ByteString response) {
+        CompletableFuture<ByteString> future = pendingRequests.get(requestId);
+        return future != null && future.complete(response);
+    }
+
+    boolean isConnected() {
+        return state.get() == State.OPEN && webSocket != null;
+    }
+
+    /**
+     * 연결되어 있고 전송 큐가 밀리지 않은 상태인지 확인
+     */
+    boolean isHealthy() {
+        WebSocket socket = webSocket;
+        return state.get() == State.OPEN && socket != null && socket.queueSize() < unhealthyQueueBytes;
+    }
+
+    int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * 현재 연결이 유지된 시간 (초, 연결되어 있지 않으면 0)
+     */
+    double uptimeSeconds() {
+        long since = connectedAtNanos;
+        return state.get() == State.OPEN && since != 0 ? (System.nanoTime() - since) / 1_000_000_000.0 : 0;
+    }
+
+    /**
+     * 지금까지 예약한 재연결 시도 수
+     */
+    long reconnectAttempts() {
+        return reconnectAttempts.get();
+    }
+
+    /**
+     * 처리 슬롯을 반납하고 대기 중인 요청이 있으면 배정하도록 알림
+     * 확보한 슬롯으로 전송하지 않게 된 경우에도 호출
+     */
+    void release() {
+        inFlight.decrementAndGet();
+        capacityListener.run();
+    }
+
+    void close() {
+        state.set(State.CLOSED);
+        ScheduledFuture<?> reconnect = pendingReconnect;
+        if (reconnect != null) {
+            reconnect.cancel(false);
+        }
+
+        WebSocket socket = webSocket;
+        if (socket != null) {
+            socket.close(NetworkConstants.WebSocket.NORMAL_CLOSURE_CODE, ErrorMessages.MCP.APPLICATION_SHUTDOWN);
+        }
+        failPendingRequests();
+    }
+
+    /**
+     * 연결이 끊긴 경우 대기 중인 요청을 타임아웃까지 기다리지 않고 즉시 실패 처리
+     */
+    private void failPendingRequests() {
+        pendingRequests.values().forEach(future -> future.completeExceptionally(
+                new McpTransportException("MCP 서버 연결이 끊어졌습니다: " + name)));
+    }
+
+    /**
+     * 연결이 끊겼을 때 공유 스케줄러에 재연결을 예약
+     * 이미 예약되어 있거나 종료 중이면 아무것도 하지 않음
+     */
+    private void scheduleReconnect() {
+        while (true) {
+            State current = state.get();
+            if (current == State.CLOSED || current == State.RECONNECT_PENDING) {
+                return;
+            }
+            if (state.compareAndSet(current, State.RECONNECT_PENDING)) {
+                break;
+            }
+        }
+
+        int attempt = consecutiveFailures.getAndIncrement();
+        Duration delay = reconnectPolicy.delayFor(attempt);
+        reconnectAttempts.incrementAndGet();
+        log.info("MCP 서버 재연결 예약: connection=[{}], attempt=[{}], delay=[{}ms]", name, attempt + 1, delay.toMillis());
+
+        try {
+            pendingReconnect = reconnectScheduler.schedule(this::reconnect, delay.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.debug("재연결 스케줄러가 종료되어 재연결을 예약하지 않습니다: connection=[{}]", name);
+        }
+    }
+
+    private void reconnect() {
+        if (state.compareAndSet(State.RECONNECT_PENDING, State.CONNECTING)) {
+            log.info("MCP 서버 재연결 시도: connection=[{}]", name);
+            open();
+        }
+    }
+
+    /**
+     * 현재 소켓의 연결이 끊겼을 때 공통 처리
+     */
+    private void onConnectionLost() {
+        connectedAtNanos = 0;
+        failPendingRequests();
+        scheduleReconnect();
+    }
+
+    /**
+     * MCP 서버 이벤트용 WebSocket 리스너
+     * 재연결로 교체된 이전 소켓의 콜백은 무시함
+     */
+    private class Listener extends WebSocketListener {
+
+        private boolean isStale() {
+            return activeListener != this;
+        }
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            if (isStale()) {
+                webSocket.close(NetworkConstants.WebSocket.NORMAL_CLOSURE_CODE, null);
+                return;
+            }
+            wireFormat = McpWireFormat.fromSubprotocol(response.header(SUBPROTOCOL_HEADER));
+            if (!state.compareAndSet(State.CONNECTING, State.OPEN)) {
+                webSocket.close(NetworkConstants.WebSocket.NORMAL_CLOSURE_CODE, null);
+                return;
+            }
+            connectedAtNanos = System.nanoTime();
+            consecutiveFailures.set(0);
+            log.info("MCP 서버 연결 성공: connection=[{}], url=[{}], protocol=[{}], wireFormat=[{}], extensions=[{}]",
+                    name, url, response.protocol(), wireFormat, response.header(EXTENSIONS_HEADER));
+            capacityListener.run();
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            messageHandler.onMessage(McpConnection.this, ByteString.encodeUtf8(text));
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, ByteString bytes) {
+            try {
+                messageHandler.onMessage(McpConnection.this, codec.decodeBinary(bytes));
+            } catch (IOException e) {
+                log.warn("MCP 바이너리 메시지 디코딩 실패: connection=[{}], size=[{}]", name, bytes.size(), e);
+            }
+        }
+
+        @Override
+        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
+            if (isStale()) {
+                return;
+            }
+            log.error("MCP 서버 연결 실패: connection=[{}], response=[{}]", name,
+                    response != null ? response.code() + " " + response.message() : "null", t);
+            onConnectionLost();
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            if (isStale()) {
+                return;
+            }
+            log.warn("MCP 서버 연결 종료 중: connection=[{}], code=[{}], reason=[{}]", name, code, reason);
+            webSocket.close(NetworkConstants.WebSocket.NORMAL_CLOSURE_CODE, null);
+            onConnectionLost();
+        }
+
+        @Override
+        public void onClosed(WebSocket webSocket, int code, String reason) {
+            if (isStale()) {
+                return;
+            }
+            log.warn("MCP 서버 연결 종료됨: connection=[{}], code=[{}], reason=[{}]", name, code, reason);
+            onConnectionLost();
+        }
+    }
+}
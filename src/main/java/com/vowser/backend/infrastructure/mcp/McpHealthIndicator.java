@@ -0,0 +1,32 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * MCP 서버 연동 상태를 actuator health로 노출
+ * 연결이 하나도 없거나 서킷 브레이커가 열려 있으면 DOWN
+ */
+@Component("mcp")
+@RequiredArgsConstructor
+public class McpHealthIndicator implements HealthIndicator {
+
+    private final McpWebSocketClient mcpWebSocketClient;
+
+    @Override
+    public Health health() {
+        McpCircuitBreaker.State circuitState = mcpWebSocketClient.circuitState();
+        long connected = mcpWebSocketClient.connectedCount();
+
+        Health.Builder builder = connected > 0 && circuitState != McpCircuitBreaker.State.OPEN
+                ? Health.up()
+                : Health.down();
+        return builder
+                .withDetail("circuitBreaker", circuitState)
+                .withDetail("connections", connected + "/" + mcpWebSocketClient.connectionCount())
+                .withDetail("queued", mcpWebSocketClient.admissionQueued())
+                .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.infrastructure.config.McpConfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 헤지 요청(hedged request) 정책
+ *
+ * 최근 응답 시간의 분위수(기본 p95)를 헤지 대기 시간으로 사용하고,
+ * 토큰 버킷으로 헤지 비율을 제한하여 느려진 MCP 서버에 부하를 더 얹지 않도록 함
+ * 요청마다 ratio만큼 토큰이 쌓이고 헤지 한 번에 토큰 하나를 사용
+ */
+class McpHedgePolicy {
+
+    private static final int RECALCULATE_EVERY = 32;
+    /** 토큰 하나를 나누는 단위 (부동소수점 누적 오차 없이 비율을 적립하기 위함) */
+    private static final long TOKEN_UNIT = 10_000;
+
+    private final double percentile;
+    private final long minDelayNanos;
+    private final long ratio;
+    private final long maxTokens;
+
+    private final long[] samples;
+    private int sampleCount;
+    private int nextSample;
+    private volatile long delayNanos;
+
+    private long tokens;
+
+    McpHedgePolicy(McpConfig.Hedge config) {
+        this.percentile = config.getPercentile();
+        this.minDelayNanos = config.getMinDelay().toNanos();
+        this.ratio = Math.round(config.getMaxRatio() * TOKEN_UNIT);
+        this.maxTokens = Math.max(1, config.getBurst()) * TOKEN_UNIT;
+        this.samples = new long[Math.max(RECALCULATE_EVERY, config.getSampleSize())];
+        this.delayNanos = Math.max(minDelayNanos, config.getInitialDelay().toNanos());
+        this.tokens = maxTokens;
+    }
+
+    /**
+     * 헤지 요청을 보내기까지 기다릴 시간
+     */
+    Duration hedgeDelay() {
+        return Duration.ofNanos(delayNanos);
+    }
+
+    /**
+     * 응답 시간을 기록하고 일정 간격마다 분위수를 다시 계산
+     */
+    synchronized void recordLatency(long nanos) {
+        samples[nextSample] = nanos;
+        nextSample = (nextSample + 1) % samples.length;
+        sampleCount = Math.min(samples.length, sampleCount + 1);
+
+        if (sampleCount >= RECALCULATE_EVERY && nextSample % RECALCULATE_EVERY == 0) {
+            long[] sorted = Arrays.copyOf(samples, sampleCount);
+            Arrays.sort(sorted);
+            int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+            delayNanos = Math.max(minDelayNanos, sorted[Math.max(0, index)]);
+        }
+    }
+
+    /**
+     * 일반 요청 한 건만큼 헤지 예산을 적립
+     */
+    synchronized void onRequest() {
+        tokens = Math.min(maxTokens, tokens + ratio);
+    }
+
+    /**
+     * 헤지 예산에서 한 건을 사용
+     *
+     * @return 예산이 남아 있으면 true
+     */
+    synchronized boolean tryHedge() {
+        if (tokens < TOKEN_UNIT) {
+            return false;
+        }
+        tokens -= TOKEN_UNIT;
+        return true;
+    }
+
+    /**
+     * 사용한 예산을 돌려줌 (헤지를 보낼 연결이 없었던 경우)
+     */
+    synchronized void refund() {
+        tokens = Math.min(maxTokens, tokens + TOKEN_UNIT);
+    }
+}
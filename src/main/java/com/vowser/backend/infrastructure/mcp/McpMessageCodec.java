@@ -0,0 +1,70 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import okio.Buffer;
+import okio.ByteString;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * MCP 메시지 인코딩/디코딩
+ *
+ * 송신 메시지는 연결에서 협상된 방식(JSON 텍스트 또는 CBOR 바이너리)으로 직렬화하고,
+ * 수신한 바이너리 프레임은 트리를 만들지 않고 JSON 바이트로 변환하여 텍스트 프레임과 같은 응답 처리 경로를 사용
+ */
+class McpMessageCodec {
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    McpMessageCodec(ObjectMapper jsonMapper) {
+        this.jsonMapper = jsonMapper;
+        this.cborMapper = jsonMapper.copyWith(new CBORFactory());
+    }
+
+    /**
+     * 메시지를 JSON 텍스트 프레임 내용으로 직렬화
+     */
+    String encodeText(Object message) throws JsonProcessingException {
+        return jsonMapper.writeValueAsString(message);
+    }
+
+    /**
+     * 메시지를 CBOR 바이너리 프레임 내용으로 직렬화
+     */
+    ByteString encodeBinary(Object message) throws JsonProcessingException {
+        return ByteString.of(cborMapper.writeValueAsBytes(message));
+    }
+
+    /**
+     * CBOR 바이너리 프레임을 UTF-8 JSON 바이트로 변환
+     * 문자열을 거치지 않고 토큰 단위로 옮겨 씀
+     *
+     * @param bytes 수신한 바이너리 프레임
+     * @return UTF-8 JSON 바이트
+     */
+    ByteString decodeBinary(ByteString bytes) throws IOException {
+        Buffer buffer = new Buffer();
+        try (JsonParser parser = cborMapper.getFactory().createParser(inputStream(bytes));
+             JsonGenerator generator = jsonMapper.getFactory().createGenerator(buffer.outputStream(), JsonEncoding.UTF8)) {
+            while (parser.nextToken() != null) {
+                generator.copyCurrentEvent(parser);
+            }
+        }
+        return buffer.readByteString();
+    }
+
+    /**
+     * ByteString 내용을 복사 없이 읽는 스트림
+     */
+    static InputStream inputStream(ByteString bytes) {
+        return new ByteBufferBackedInputStream(bytes.asByteBuffer());
+    }
+}
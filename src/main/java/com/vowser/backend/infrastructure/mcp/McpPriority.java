@@ -0,0 +1,42 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.common.constants.McpConstants;
+
+import java.util.Locale;
+
+/**
+ * MCP 요청 우선순위 (입장 대기열 차선)
+ *
+ * 사용자가 응답을 기다리는 요청(INTERACTIVE)이 관리/일괄 작업 뒤에 밀리지 않도록 차선을 나눔
+ */
+public enum McpPriority {
+
+    /** 음성 명령 등 사용자가 응답을 기다리는 조회 */
+    INTERACTIVE,
+
+    /** 경로 저장, 통계/시각화 조회 등 지연에 덜 민감한 요청 */
+    BACKGROUND,
+
+    /** 인덱스 생성, 정리 등 관리 작업 */
+    ADMIN;
+
+    /**
+     * 메시지 타입의 기본 우선순위
+     */
+    public static McpPriority forType(String type) {
+        return switch (type) {
+            case McpConstants.MessageTypes.SEARCH_NEW_PATH,
+                 McpConstants.MessageTypes.FIND_POPULAR_PATHS -> INTERACTIVE;
+            case McpConstants.MessageTypes.CREATE_NEW_INDEXES,
+                 McpConstants.MessageTypes.CLEANUP_PATHS -> ADMIN;
+            default -> BACKGROUND;
+        };
+    }
+
+    /**
+     * 메트릭 태그 값
+     */
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,45 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.infrastructure.config.McpConfig;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * MCP 재연결 대기 시간 정책
+ *
+ * 첫 재시도는 짧게 두어 순간적인 끊김에서 빠르게 복구하고,
+ * 이후 실패가 이어지면 지수적으로 늘리되 최대값으로 제한함
+ * 여러 연결이 동시에 재연결하지 않도록 대기 시간에 무작위 편차(jitter)를 더함
+ */
+class McpReconnectPolicy {
+
+    private final long initialDelayMs;
+    private final long maxDelayMs;
+    private final double multiplier;
+    private final double jitter;
+
+    McpReconnectPolicy(Duration initialDelay, Duration maxDelay, double multiplier, double jitter) {
+        this.initialDelayMs = Math.max(0, initialDelay.toMillis());
+        this.maxDelayMs = Math.max(initialDelayMs, maxDelay.toMillis());
+        this.multiplier = Math.max(1.0, multiplier);
+        this.jitter = Math.min(1.0, Math.max(0.0, jitter));
+    }
+
+    static McpReconnectPolicy from(McpConfig.Reconnect config) {
+        return new McpReconnectPolicy(config.getInitialDelay(), config.getMaxDelay(),
+                config.getMultiplier(), config.getJitter());
+    }
+
+    /**
+     * 연속 실패 횟수에 해당하는 재연결 대기 시간
+     *
+     * @param attempt 직전까지 연속으로 실패한 재연결 횟수 (0이면 첫 재시도)
+     */
+    Duration delayFor(int attempt) {
+        double base = Math.min(maxDelayMs, initialDelayMs * Math.pow(multiplier, Math.max(0, attempt)));
+        double spread = base * jitter;
+        double delay = base - spread + ThreadLocalRandom.current().nextDouble() * spread * 2;
+        return Duration.ofMillis(Math.round(Math.min(maxDelayMs, Math.max(0, delay))));
+    }
+}
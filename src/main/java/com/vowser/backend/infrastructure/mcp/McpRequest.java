@@ -0,0 +1,41 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import lombok.Getter;
+import lombok.Setter;
+import okio.ByteString;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 응답을 기다리는 MCP 요청
+ * 처리 슬롯을 얻기 전까지 대기열에 머무르며, 슬롯을 얻으면 연결을 통해 전송됨
+ */
+@Getter
+class McpRequest {
+
+    private final String requestId;
+    private final String type;
+    private final McpPriority priority;
+    private final Object message;
+    private final CompletableFuture<ByteString> responseFuture = new CompletableFuture<>();
+    private final long enqueuedAtNanos = System.nanoTime();
+
+    /**
+     * 대기열 타임아웃 핸들 (슬롯을 얻으면 취소)
+     */
+    @Setter
+    private volatile McpTimeoutWheel.Timeout queueTimeout;
+
+    /**
+     * 요청을 전송한 연결 (슬롯을 얻기 전에는 null)
+     */
+    @Setter
+    private volatile McpConnection connection;
+
+    McpRequest(String requestId, String type, McpPriority priority, Object message) {
+        this.requestId = requestId;
+        this.type = type;
+        this.priority = priority;
+        this.message = message;
+    }
+}
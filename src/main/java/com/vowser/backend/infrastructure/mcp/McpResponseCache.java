@@ -0,0 +1,377 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.vowser.backend.infrastructure.config.McpConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import okio.ByteString;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 자주 바뀌지 않는 MCP 조회 결과 캐시
+ *
+ * 메시지 타입별로 크기와 TTL이 제한된 Caffeine(W-TinyLFU) 캐시에 원본 JSON 응답 바이트를 보관하고,
+ * 설정 시 여러 인스턴스가 공유하는 Redis 2차 캐시를 함께 사용
+ * 경로가 저장/정리되면 해당 도메인과 도메인 구분이 없는 항목(전체 검색, 그래프 통계)을 무효화함
+ *
+ * stale-after가 지정된 타입은 stale-while-revalidate로 동작하여,
+ * 오래된 스냅샷을 즉시 반환하고 제한된 갱신 스레드 풀에서 키별로 한 번만 다시 조회함
+ * 이 타입의 무효화는 항목을 다시 쓰지 않고 도메인별 무효화 시각만 기록하므로 원래 TTL은 그대로 유지됨
+ */
+@Slf4j
+@Component
+public class McpResponseCache {
+
+    private static final String GLOBAL_DOMAIN = "_";
+
+    private final McpConfig.Cache cacheConfig;
+    private final MeterRegistry meterRegistry;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    private final Map<String, AsyncCache<CacheKey, Snapshot>> caches = new ConcurrentHashMap<>();
+    private final Set<CacheKey> refreshing = ConcurrentHashMap.newKeySet();
+    // stale-while-revalidate 타입용: 도메인별 마지막 무효화 시각 (가장 긴 TTL이 지나면 비교할 스냅샷이 없으므로 제거)
+    private final Cache<String, Long> invalidatedAt;
+    private volatile Long allInvalidatedAt;
+    private final ThreadPoolExecutor refresher;
+
+    public McpResponseCache(McpConfig mcpConfig, MeterRegistry meterRegistry,
+                            RedisTemplate<String, String> redisTemplate) {
+        this.cacheConfig = mcpConfig.getCache();
+        this.meterRegistry = meterRegistry;
+        this.redisTemplate = redisTemplate;
+        this.refresher = createRefresher(cacheConfig.getRefresher());
+        this.invalidatedAt = Caffeine.newBuilder()
+                .expireAfterWrite(cacheConfig.getTtl().values().stream().max(Duration::compareTo).orElse(Duration.ZERO))
+                .build();
+
+        Gauge.builder("mcp.cache.refresh.queued", refresher, executor -> executor.getQueue().size())
+                .description("실행을 기다리는 MCP 캐시 백그라운드 갱신 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시된 응답을 반환하고, 없으면 loader로 조회하여 저장
+     * 동일 키에 대한 동시 조회는 하나의 loader 호출을 공유하며,
+     * 실패했거나 cacheable을 만족하지 않는 응답(오류 응답 등)은 캐시에 남기지 않음
+     * stale-after가 지난 항목은 그대로 반환하면서 백그라운드 갱신을 예약함
+     *
+     * @param type MCP 메시지 타입
+     * @param domain 결과가 속한 도메인 (도메인 구분이 없으면 null)
+     * @param key 도메인 안에서 요청을 구분하는 키
+     * @param loader MCP 서버 조회 함수
+     * @param cacheable 캐시에 보관할 응답인지 판단하는 조건
+     */
+    public CompletableFuture<ByteString> get(String type, String domain, String key,
+                                             Supplier<CompletableFuture<ByteString>> loader,
+                                             Predicate<ByteString> cacheable) {
+        AsyncCache<CacheKey, Snapshot> cache = cacheFor(type);
+        if (cache == null) {
+            return loader.get();
+        }
+
+        CacheKey cacheKey = new CacheKey(type, normalizeDomain(domain), key);
+        CompletableFuture<Snapshot> future = cache.get(cacheKey,
+                (k, executor) -> loadThroughRedis(k, loader, cacheable, executor));
+
+        Duration staleAfter = cacheConfig.getStaleAfter().get(type);
+        return future.thenApply(snapshot -> {
+            if (!cacheable.test(snapshot.payload())) {
+                cache.asMap().remove(cacheKey, future);
+            } else if (staleAfter != null && (snapshot.isOlderThan(staleAfter) || isInvalidated(cacheKey, snapshot))) {
+                scheduleRefresh(cache, cacheKey, loader, cacheable);
+            }
+            return snapshot.payload();
+        });
+    }
+
+    /**
+     * 도메인에 속한 항목과 도메인 구분이 없는 항목을 무효화
+     *
+     * @param domain 변경된 도메인
+     */
+    public void invalidateDomain(String domain) {
+        if (domain == null || domain.isBlank()) {
+            invalidateAll();
+            return;
+        }
+
+        String normalized = normalizeDomain(domain);
+        long now = System.nanoTime();
+        invalidatedAt.put(normalized, now);
+        invalidatedAt.put(GLOBAL_DOMAIN, now);
+        invalidateLocal(key -> key.domain().equals(normalized) || key.domain().equals(GLOBAL_DOMAIN));
+        evictRedis(normalized);
+        evictRedis(GLOBAL_DOMAIN);
+        log.debug("MCP 조회 캐시 무효화: domain=[{}]", normalized);
+    }
+
+    /**
+     * 모든 캐시 항목을 무효화
+     */
+    public void invalidateAll() {
+        allInvalidatedAt = System.nanoTime();
+        invalidateLocal(key -> true);
+        if (isRedisEnabled()) {
+            try {
+                String domainsKey = redisDomainsKey();
+                Set<String> indexKeys = redisTemplate.opsForSet().members(domainsKey);
+                if (indexKeys != null) {
+                    indexKeys.forEach(this::evictRedisIndex);
+                }
+                redisTemplate.delete(domainsKey);
+            } catch (Exception e) {
+                log.warn("Redis MCP 캐시 전체 무효화 실패", e);
+            }
+        }
+        log.debug("MCP 조회 캐시 전체 무효화");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * 로컬 캐시 항목을 무효화
+     * stale-while-revalidate 타입은 항목을 지우지 않고 남겨 두어, 다음 조회가 기존 스냅샷을 받으면서
+     * 갱신을 유발하도록 함 (무효화 여부는 조회 시 무효화 시각과 비교)
+     */
+    private void invalidateLocal(Predicate<CacheKey> matches) {
+        caches.forEach((type, cache) -> {
+            if (!cacheConfig.getStaleAfter().containsKey(type)) {
+                cache.synchronous().asMap().keySet().removeIf(matches);
+            }
+        });
+    }
+
+    /**
+     * 스냅샷을 조회한 뒤에 해당 도메인이나 전체 캐시가 무효화되었는지 확인
+     */
+    private boolean isInvalidated(CacheKey key, Snapshot snapshot) {
+        return snapshot.isNotAfter(allInvalidatedAt) || snapshot.isNotAfter(invalidatedAt.getIfPresent(key.domain()));
+    }
+
+    /**
+     * 키별로 한 번만 백그라운드 갱신을 예약
+     * 갱신 스레드 풀이 가득 차 있으면 이번 갱신은 건너뛰고 다음 조회에서 다시 시도함
+     */
+    private void scheduleRefresh(AsyncCache<CacheKey, Snapshot> cache, CacheKey key,
+                                 Supplier<CompletableFuture<ByteString>> loader, Predicate<ByteString> cacheable) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        try {
+            refresher.execute(() -> {
+                try {
+                    ByteString payload = loader.get().join();
+                    if (cacheable.test(payload)) {
+                        cache.put(key, CompletableFuture.completedFuture(Snapshot.of(payload)));
+                        writeRedis(key, payload, Runnable::run);
+                        countRefresh(key, "success");
+                    } else {
+                        countRefresh(key, "failure");
+                    }
+                } catch (Exception e) {
+                    log.debug("MCP 캐시 백그라운드 갱신 실패: type=[{}], domain=[{}]", key.type(), key.domain(), e);
+                    countRefresh(key, "failure");
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            countRefresh(key, "rejected");
+        }
+    }
+
+    private void countRefresh(CacheKey key, String result) {
+        meterRegistry.counter("mcp.cache.refresh", "type", key.type(), "result", result).increment();
+    }
+
+    private AsyncCache<CacheKey, Snapshot> cacheFor(String type) {
+        if (!cacheConfig.isEnabled()) {
+            return null;
+        }
+        Duration ttl = cacheConfig.getTtl().get(type);
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return null;
+        }
+        return caches.computeIfAbsent(type, t -> createCache(t, ttl));
+    }
+
+    private AsyncCache<CacheKey, Snapshot> createCache(String type, Duration ttl) {
+        AsyncCache<CacheKey, Snapshot> cache = Caffeine.newBuilder()
+                .maximumSize(cacheConfig.getMaximumSize())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "mcp." + type, Tags.empty());
+        log.info("MCP 조회 캐시 생성: type=[{}], ttl=[{}], staleAfter=[{}], maximumSize=[{}]",
+                type, ttl, cacheConfig.getStaleAfter().get(type), cacheConfig.getMaximumSize());
+        return cache;
+    }
+
+    private static ThreadPoolExecutor createRefresher(McpConfig.Cache.Refresher config) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(
+                config.getPoolSize(), config.getPoolSize(),
+                60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(config.getQueueCapacity()),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "mcp-cache-refresher-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Redis 2차 캐시를 먼저 확인하고, 없으면 MCP 서버에서 조회하여 Redis에도 저장
+     * Redis 오류는 캐시 미스로 취급하여 조회를 막지 않음
+     */
+    private CompletableFuture<Snapshot> loadThroughRedis(CacheKey key,
+                                                         Supplier<CompletableFuture<ByteString>> loader,
+                                                         Predicate<ByteString> cacheable,
+                                                         Executor executor) {
+        if (!isRedisEnabled()) {
+            return loader.get().thenApply(Snapshot::of);
+        }
+
+        return CompletableFuture.supplyAsync(() -> readRedis(key), executor)
+                .thenCompose(cached -> cached != null
+                        ? CompletableFuture.completedFuture(cached)
+                        : loader.get().thenApply(response -> {
+                            if (cacheable.test(response)) {
+                                writeRedis(key, response, executor);
+                            }
+                            return response;
+                        }))
+                .thenApply(Snapshot::of);
+    }
+
+    private ByteString readRedis(CacheKey key) {
+        String redisKey = redisKey(key);
+        try {
+            String cached = redisTemplate.opsForValue().get(redisKey);
+            meterRegistry.counter("mcp.cache.redis", "type", key.type(), "result", cached != null ? "hit" : "miss")
+                    .increment();
+            return cached != null ? ByteString.encodeUtf8(cached) : null;
+        } catch (Exception e) {
+            log.warn("Redis MCP 캐시 조회 실패: key=[{}]", redisKey, e);
+            return null;
+        }
+    }
+
+    private void writeRedis(CacheKey key, ByteString response, Executor executor) {
+        if (!isRedisEnabled()) {
+            return;
+        }
+
+        String redisKey = redisKey(key);
+        long ttlMillis = cacheConfig.getTtl().get(key.type()).toMillis();
+        String indexKey = redisIndexKey(key.domain());
+        executor.execute(() -> {
+            try {
+                redisTemplate.opsForValue().set(redisKey, response.utf8(), ttlMillis, TimeUnit.MILLISECONDS);
+                redisTemplate.opsForSet().add(indexKey, redisKey);
+                redisTemplate.expire(indexKey, ttlMillis, TimeUnit.MILLISECONDS);
+                redisTemplate.opsForSet().add(redisDomainsKey(), indexKey);
+            } catch (Exception e) {
+                log.warn("Redis MCP 캐시 저장 실패: key=[{}]", redisKey, e);
+            }
+        });
+    }
+
+    private void evictRedis(String domain) {
+        if (!isRedisEnabled()) {
+            return;
+        }
+        try {
+            evictRedisIndex(redisIndexKey(domain));
+        } catch (Exception e) {
+            log.warn("Redis MCP 캐시 무효화 실패: domain=[{}]", domain, e);
+        }
+    }
+
+    private void evictRedisIndex(String indexKey) {
+        Set<String> members = redisTemplate.opsForSet().members(indexKey);
+        if (members != null && !members.isEmpty()) {
+            redisTemplate.delete(members);
+        }
+        redisTemplate.delete(indexKey);
+    }
+
+    private boolean isRedisEnabled() {
+        return cacheConfig.getRedis().isEnabled() && redisTemplate != null;
+    }
+
+    private String redisKey(CacheKey key) {
+        return cacheConfig.getRedis().getKeyPrefix() + key.type() + ":" + key.domain() + ":" + key.key();
+    }
+
+    private String redisIndexKey(String domain) {
+        return cacheConfig.getRedis().getKeyPrefix() + "domain:" + domain;
+    }
+
+    private String redisDomainsKey() {
+        return cacheConfig.getRedis().getKeyPrefix() + "domains";
+    }
+
+    /**
+     * 도메인 표기를 통일 (대소문자, 앞의 www. 제거)
+     */
+    private static String normalizeDomain(String domain) {
+        if (domain == null || domain.isBlank()) {
+            return GLOBAL_DOMAIN;
+        }
+        String normalized = domain.trim().toLowerCase(Locale.ROOT);
+        return normalized.startsWith("www.") ? normalized.substring(4) : normalized;
+    }
+
+    private record CacheKey(String type, String domain, String key) {
+    }
+
+    /**
+     * 캐시에 보관하는 응답과 조회 시각
+     */
+    private record Snapshot(ByteString payload, long fetchedAtNanos) {
+
+        static Snapshot of(ByteString payload) {
+            return new Snapshot(payload, System.nanoTime());
+        }
+
+        boolean isNotAfter(Long nanos) {
+            return nanos != null && fetchedAtNanos - nanos <= 0;
+        }
+
+        boolean isOlderThan(Duration age) {
+            return System.nanoTime() - fetchedAtNanos >= age.toNanos();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일한 키로 동시에 들어온 MCP 요청을 하나로 합침 (single-flight)
+ *
+ * 같은 키의 요청이 처리 중이면 새로 보내지 않고 진행 중인 요청의 결과를 공유
+ * 응답이 오면 키를 바로 제거하므로 결과를 보관하는 캐시는 아님
+ *
+ * @param <K> 요청을 식별하는 키
+ * @param <V> 응답 타입
+ */
+class McpSingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> calls = new ConcurrentHashMap<>();
+    private final Counter hits;
+    private final Counter misses;
+
+    /**
+     * @param meterRegistry 메트릭 레지스트리
+     * @param type 메트릭 태그로 사용할 MCP 메시지 타입
+     */
+    McpSingleFlight(MeterRegistry meterRegistry, String type) {
+        this.hits = Counter.builder("mcp.coalesce.requests")
+                .description("진행 중인 동일 요청에 합쳐진 MCP 요청 수")
+                .tag("type", type)
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("mcp.coalesce.requests")
+                .description("새로 전송된 MCP 요청 수")
+                .tag("type", type)
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키에 해당하는 요청이 진행 중이면 그 결과를, 아니면 새 요청을 시작해 결과를 반환
+     * 호출자마다 별도의 Future 사본을 돌려주므로 한 호출자의 취소가 다른 호출자에게 번지지 않음
+     *
+     * @param key 요청 키
+     * @param loader 실제 요청을 보내는 함수
+     */
+    CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> loader) {
+        CompletableFuture<V> existing = calls.get(key);
+        if (existing != null) {
+            hits.increment();
+            return existing.copy();
+        }
+
+        CompletableFuture<V> created = new CompletableFuture<>();
+        existing = calls.putIfAbsent(key, created);
+        if (existing != null) {
+            hits.increment();
+            return existing.copy();
+        }
+
+        misses.increment();
+        CompletableFuture<V> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            loaded = CompletableFuture.failedFuture(e);
+        }
+
+        loaded.whenComplete((value, ex) -> {
+            calls.remove(key, created);
+            if (ex != null) {
+                created.completeExceptionally(ex);
+            } else {
+                created.complete(value);
+            }
+        });
+        return created.copy();
+    }
+
+    int inFlight() {
+        return calls.size();
+    }
+}
@@ -0,0 +1,253 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * MCP 요청 타임아웃 전용 해시드 휠 타이머
+ *
+ * 요청마다 지연 작업을 예약하는 대신 하나의 워커 스레드가 틱 단위로 휠을 돌며 만료된 항목만 실행
+ * 예약/취소는 O(1)이며, 응답이 도착해 취소된 항목은 다음 틱에 휠에서 제거됨
+ * 만료 작업은 워커 스레드에서 실행되므로 가볍게 유지해야 함
+ */
+@Slf4j
+public class McpTimeoutWheel {
+
+    private static final int MAX_TRANSFERS_PER_TICK = 100_000;
+
+    private final long tickNanos;
+    private final Bucket[] wheel;
+    private final int mask;
+
+    private final Queue<Timeout> pendingAdds = new ConcurrentLinkedQueue<>();
+    private final Queue<Timeout> pendingCancels = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+
+    private final Thread worker;
+    private volatile boolean running = true;
+    private final long startTime;
+    private long tick;
+
+    /**
+     * @param tickDuration 한 틱의 길이 (타임아웃 정밀도)
+     * @param wheelSize 휠 버킷 수 (2의 거듭제곱으로 올림)
+     * @param threadName 워커 스레드 이름
+     */
+    public McpTimeoutWheel(Duration tickDuration, int wheelSize, String threadName) {
+        this.tickNanos = Math.max(TimeUnit.MILLISECONDS.toNanos(1), tickDuration.toNanos());
+
+        int size = Integer.highestOneBit(Math.max(1, wheelSize - 1)) << 1;
+        this.wheel = new Bucket[size];
+        for (int i = 0; i < size; i++) {
+            wheel[i] = new Bucket();
+        }
+        this.mask = size - 1;
+
+        this.startTime = System.nanoTime();
+        this.worker = new Thread(this::run, threadName);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * 지정한 지연 후 실행될 타임아웃을 예약
+     *
+     * @param task 만료 시 실행할 작업
+     * @param delay 지연 시간
+     * @return 취소 가능한 타임아웃 핸들
+     */
+    public Timeout schedule(Runnable task, Duration delay) {
+        long deadline = System.nanoTime() + Math.max(0, delay.toNanos()) - startTime;
+        Timeout timeout = new Timeout(task, deadline);
+        pendingCount.incrementAndGet();
+        pendingAdds.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 아직 만료되거나 취소되지 않은 타임아웃 수
+     */
+    public long pendingTimeouts() {
+        return pendingCount.get();
+    }
+
+    public void stop() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            if (!waitForNextTick()) {
+                continue;
+            }
+
+            removeCancelled();
+            transferPendingAdds();
+            wheel[(int) (tick & mask)].expire();
+            tick++;
+        }
+        log.debug("MCP 타임아웃 휠 종료: remaining=[{}]", pendingCount.get());
+    }
+
+    /**
+     * 다음 틱까지 대기
+     *
+     * @return 틱에 도달했으면 true, 대기 중 인터럽트되었으면 false
+     */
+    private boolean waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        long sleepNanos = deadline - (System.nanoTime() - startTime);
+        if (sleepNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(sleepNanos);
+            } catch (InterruptedException e) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void transferPendingAdds() {
+        for (int i = 0; i < MAX_TRANSFERS_PER_TICK; i++) {
+            Timeout timeout = pendingAdds.poll();
+            if (timeout == null) {
+                return;
+            }
+            if (timeout.state.get() != Timeout.ST_INIT) {
+                continue;
+            }
+
+            long expiryTick = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (expiryTick - tick) / wheel.length;
+            long targetTick = Math.max(expiryTick, tick);
+            wheel[(int) (targetTick & mask)].add(timeout);
+        }
+    }
+
+    private void removeCancelled() {
+        Timeout timeout;
+        while ((timeout = pendingCancels.poll()) != null) {
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            }
+        }
+    }
+
+    /**
+     * 타임아웃 핸들
+     */
+    public final class Timeout {
+
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+
+        private final Runnable task;
+        private final long deadline;
+        private final AtomicInteger state = new AtomicInteger(ST_INIT);
+
+        private long remainingRounds;
+        private Bucket bucket;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 타임아웃을 취소
+         *
+         * @return 이번 호출로 취소되었으면 true (이미 만료/취소된 경우 false)
+         */
+        public boolean cancel() {
+            if (!state.compareAndSet(ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            pendingCount.decrementAndGet();
+            pendingCancels.add(this);
+            return true;
+        }
+
+        public boolean isCancelled() {
+            return state.get() == ST_CANCELLED;
+        }
+
+        private void expire() {
+            if (!state.compareAndSet(ST_INIT, ST_EXPIRED)) {
+                return;
+            }
+            pendingCount.decrementAndGet();
+            try {
+                task.run();
+            } catch (Throwable t) {
+                log.warn("MCP 타임아웃 작업 실행 중 오류 발생", t);
+            }
+        }
+    }
+
+    /**
+     * 휠의 한 칸에 해당하는 이중 연결 리스트 (워커 스레드 전용)
+     */
+    private static final class Bucket {
+
+        private Timeout head;
+        private Timeout tail;
+
+        void add(Timeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        void expire() {
+            Timeout timeout = head;
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    remove(timeout);
+                    timeout.expire();
+                } else if (timeout.isCancelled()) {
+                    remove(timeout);
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        void remove(Timeout timeout) {
+            if (timeout.bucket != this) {
+                return;
+            }
+            if (timeout.prev != null) {
+                timeout.prev.next = timeout.next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                head = timeout.next;
+            }
+            if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.vowser.backend.infrastructure.mcp;
+
+/**
+ * MCP 서버와의 연결이 없거나 끊겨서 요청을 처리하지 못했을 때의 예외
+ *
+ * 서킷 브레이커는 응답 타임아웃과 이 예외만 MCP 서버 장애로 기록하며,
+ * 전송 큐가 가득 찬 경우처럼 로컬에서 거절한 요청은 여기에 해당하지 않음
+ */
+public class McpTransportException extends IllegalStateException {
+
+    public McpTransportException(String message) {
+        super(message);
+    }
+}
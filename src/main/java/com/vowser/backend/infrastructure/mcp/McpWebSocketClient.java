@@ -1,123 +1,244 @@
 package com.vowser.backend.infrastructure.mcp;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vowser.backend.api.dto.mcp.*;
 import com.vowser.backend.application.service.ControlService;
 import com.vowser.backend.api.dto.ControlDto;
-import com.vowser.backend.common.constants.ErrorMessages;
 import com.vowser.backend.common.constants.McpConstants;
 import com.vowser.backend.common.constants.NetworkConstants;
+import com.vowser.backend.common.exception.ErrorCode;
+import com.vowser.backend.common.exception.McpException;
+import com.vowser.backend.infrastructure.config.McpConfig;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import okhttp3.*;
-import org.springframework.beans.factory.annotation.Value;
+import okhttp3.OkHttpClient;
+import okio.ByteString;
 import org.springframework.stereotype.Component;
 
 import javax.annotation.PostConstruct;
 import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
 
 /**
- * MCP 서버와의 WebSocket 연결을 관리
+ * MCP 서버와의 WebSocket 연결 풀을 관리
  * 음성 명령을 처리하고 응답을 연결된 클라이언트로 중계
+ *
+ * 요청은 처리 중 요청 수가 가장 적은 정상 연결로 분배되며,
+ * 각 연결은 독립적으로 상태를 추적하고 재연결함
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class McpWebSocketClient {
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final int PAYLOAD_LOG_SAMPLE_RATE = 100;
+
     private final ControlService controlService;
     private final ObjectMapper objectMapper;
-    
-    @Value("${mcp.server.url:ws://localhost:8000/ws}")
-    private String mcpServerUrl;
-    
-    @Value("${mcp.reconnect.delay:20000}")
-    private long reconnectDelayMs;
-    
-
-    private final OkHttpClient client = new OkHttpClient.Builder()
-            .readTimeout(0, TimeUnit.MILLISECONDS)
-            .writeTimeout(NetworkConstants.WebSocket.WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
-            .connectTimeout(NetworkConstants.WebSocket.CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
-            .build();
-    
-    private volatile WebSocket webSocket;
-    private final AtomicBoolean isConnected = new AtomicBoolean(false);
-    private final AtomicBoolean isShuttingDown = new AtomicBoolean(false);
+    private final McpConfig mcpConfig;
+    private final MeterRegistry meterRegistry;
+    private final McpResponseCache responseCache;
+
+    private OkHttpClient client;
+    private McpMessageCodec codec;
+
+    private final List<McpConnection> connections = new CopyOnWriteArrayList<>();
+    private final AtomicInteger selectionOffset = new AtomicInteger();
 
     private final AtomicLong requestIdCounter = new AtomicLong(0);
-    private final Map<String, CompletableFuture<String>> pendingRequests = new ConcurrentHashMap<>();
+
+    private McpTimeoutWheel timeoutWheel;
+    private ScheduledExecutorService reconnectScheduler;
+    private McpAdmissionQueue admissionQueue;
+    private McpSingleFlight<SearchKey, ByteString> searchFlights;
+    private McpBatcher<PathSubmission, SavePathResponse> saveBatcher;
+    private McpHedgePolicy hedgePolicy;
+    private McpCircuitBreaker circuitBreaker;
+    private ScheduledExecutorService hedgeScheduler;
 
     @PostConstruct
     public void connect() {
-        log.info("MCP 서버 연결 초기화 시작: url=[{}]", mcpServerUrl);
-        establishConnection();
-    }
+        McpConfig.Wire wireConfig = mcpConfig.getWire();
+        client = new OkHttpClient.Builder()
+                .readTimeout(0, TimeUnit.MILLISECONDS)
+                .writeTimeout(NetworkConstants.WebSocket.WRITE_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .connectTimeout(NetworkConstants.WebSocket.CONNECT_TIMEOUT_SECONDS, TimeUnit.SECONDS)
+                .minWebSocketMessageToCompress(wireConfig.getMinCompressBytes())
+                .build();
+        codec = new McpMessageCodec(objectMapper);
 
-    /**
-     * MCP 서버와 WebSocket 연결을 수립
-     */
-    private void establishConnection() {
-        if (isShuttingDown.get()) {
-            log.info("애플리케이션 종료 중이므로 MCP 서버 연결을 시도하지 않습니다.");
-            return;
+        McpConfig.Timeout timeoutConfig = mcpConfig.getTimeout();
+        timeoutWheel = new McpTimeoutWheel(timeoutConfig.getTick(), timeoutConfig.getWheelSize(), "mcp-timeout-wheel");
+        Gauge.builder("mcp.requests.timeout.pending", timeoutWheel, McpTimeoutWheel::pendingTimeouts)
+                .description("응답 대기 중인 MCP 요청 타임아웃 수")
+                .register(meterRegistry);
+
+        McpConfig.Admission admissionConfig = mcpConfig.getAdmission();
+        admissionQueue = new McpAdmissionQueue(admissionConfig.getMaxQueued(), admissionConfig.getWeights(),
+                this::acquireConnection, this::dispatch, meterRegistry);
+
+        searchFlights = new McpSingleFlight<>(meterRegistry, McpConstants.MessageTypes.SEARCH_NEW_PATH);
+        circuitBreaker = new McpCircuitBreaker(mcpConfig.getCircuitBreaker(), meterRegistry);
+
+        McpConfig.SaveBatch saveBatchConfig = mcpConfig.getSaveBatch();
+        if (saveBatchConfig.isEnabled()) {
+            saveBatcher = new McpBatcher<>(McpConstants.MessageTypes.SAVE_NEW_PATHS,
+                    saveBatchConfig.getMaxSize(), saveBatchConfig.getMaxDelay(), this::sendSaveBatch, meterRegistry);
         }
 
-        try {
-            Request request = new Request.Builder()
-                    .url(mcpServerUrl)
-                    .build();
+        // 모든 연결의 재연결을 하나의 스레드에서 예약하여 연결마다 대기 스레드를 두지 않음
+        reconnectScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mcp-reconnect");
+            thread.setDaemon(true);
+            return thread;
+        });
+        McpReconnectPolicy reconnectPolicy = McpReconnectPolicy.from(mcpConfig.getReconnect());
 
-            webSocket = client.newWebSocket(request, new McpWebSocketListener());
-            log.debug("MCP 서버 연결 요청 전송: url=[{}]", mcpServerUrl);
-            
-        } catch (Exception e) {
-            log.error("MCP 서버 연결 요청 실패: url=[{}]", mcpServerUrl, e);
-            scheduleReconnect();
+        List<String> urls = mcpConfig.getServer().getUrl();
+        if (mcpConfig.getHedge().isEnabled()) {
+            if (urls.stream().map(String::trim).distinct().count() > 1) {
+                hedgePolicy = new McpHedgePolicy(mcpConfig.getHedge());
+                hedgeScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                    Thread thread = new Thread(runnable, "mcp-hedge");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+            } else {
+                log.warn("MCP 엔드포인트가 하나뿐이라 검색 요청 헤지를 사용하지 않습니다: urls=[{}]", urls);
+            }
+        }
+
+        int connectionsPerEndpoint = Math.max(1, mcpConfig.getPool().getConnectionsPerEndpoint());
+        log.info("MCP 서버 연결 풀 초기화 시작: urls=[{}], connectionsPerEndpoint=[{}], wireFormat=[{}]",
+                urls, connectionsPerEndpoint, wireConfig.getFormat());
+
+        for (int endpoint = 0; endpoint < urls.size(); endpoint++) {
+            for (int slot = 0; slot < connectionsPerEndpoint; slot++) {
+                McpConnection connection = new McpConnection(
+                        "mcp-" + endpoint + "-" + slot,
+                        urls.get(endpoint).trim(),
+                        client,
+                        this::handleMessage,
+                        reconnectPolicy,
+                        reconnectScheduler,
+                        mcpConfig.getPool().getUnhealthyQueueBytes(),
+                        admissionQueue::drain,
+                        codec,
+                        wireConfig.getFormat()
+                );
+                connections.add(connection);
+                registerConnectionMetrics(connection);
+                connection.open();
+            }
         }
     }
 
+    private void registerConnectionMetrics(McpConnection connection) {
+        Gauge.builder("mcp.connection.uptime", connection, McpConnection::uptimeSeconds)
+                .description("현재 MCP 연결이 유지된 시간")
+                .baseUnit("seconds")
+                .tag("connection", connection.getName())
+                .register(meterRegistry);
+        FunctionCounter.builder("mcp.reconnect.attempts", connection, McpConnection::reconnectAttempts)
+                .description("MCP 재연결 시도 수")
+                .tag("connection", connection.getName())
+                .register(meterRegistry);
+    }
+
     /**
      * 경로 저장
+     * 배치 저장이 켜져 있으면 짧은 시간 안에 들어온 다른 저장 요청과 묶어서 전송
+     *
      * @param pathSubmission PathSubmission (sessionId, taskIntent, domain, steps)
      */
     public CompletableFuture<SavePathResponse> savePath(PathSubmission pathSubmission) {
         log.info("Saving path: {} (domain: {})",
                 pathSubmission.getTaskIntent(), pathSubmission.getDomain());
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.SAVE_NEW_PATH,
-                "data", pathSubmission
-        );
-
-        return sendRequest(message)
-                .thenApply(response -> parseResponse(response, SavePathResponse.class))
+        CompletableFuture<SavePathResponse> response = saveBatcher != null
+                ? saveBatcher.submit(pathSubmission)
+                : sendSingleSave(pathSubmission);
+        return response
                 .whenComplete((res, ex) -> {
                     if (ex != null) {
                         log.error("Failed to save path", ex);
+                    } else if (McpConstants.Status.SUCCESS.equals(res.getStatus())) {
+                        SavePathResponse.SavePathResult result = res.getData() != null ? res.getData().getResult() : null;
+                        log.info("Path saved: {}", result != null ? result.getStatus() : res.getStatus());
+                        responseCache.invalidateDomain(pathSubmission.getDomain());
                     } else {
-                        log.info("Path saved: {}", res.getData().getResult().getStatus());
+                        // 배치 저장에서 실패한 항목은 result 없이 돌아올 수 있음
+                        log.warn("Path save rejected: status={}, message={}", res.getStatus(),
+                                res.getData() != null ? res.getData().getMessage() : null);
                     }
                 });
     }
 
     /**
      * 자연어 경로 검색
+     *
      * @param query 자연어 검색어 (예: "유튜브에서 음악 찾기")
      * @param limit 최대 결과 수
      * @param domainHint 선택적 도메인 힌트 (예: "youtube.com")
+     * @return MCP 응답 JSON 문자열
      */
     public CompletableFuture<String> searchPath(String query, int limit, String domainHint) {
+        return searchPathRaw(query, limit, domainHint).thenApply(ByteString::utf8);
+    }
+
+    /**
+     * 자연어 경로 검색 (원본 응답 바이트)
+     * 같은 검색(정규화한 검색어, limit, 도메인 힌트)이 처리 중이면 그 요청의 응답을 공유
+     * 응답을 문자열로 만들지 않으므로 HTTP 응답으로 그대로 흘려보낼 때 사용
+     *
+     * @param query 자연어 검색어 (예: "유튜브에서 음악 찾기")
+     * @param limit 최대 결과 수
+     * @param domainHint 선택적 도메인 힌트 (예: "youtube.com")
+     * @return MCP 응답 envelope의 UTF-8 JSON 바이트
+     */
+    public CompletableFuture<ByteString> searchPathRaw(String query, int limit, String domainHint) {
         log.info("Searching paths: \"{}\" (limit: {}, domain: {})",
                 query, limit, domainHint != null ? domainHint : "all");
 
+        SearchKey key = SearchKey.of(query, limit, domainHint);
+        return responseCache.get(McpConstants.MessageTypes.SEARCH_NEW_PATH, key.domainHint(),
+                key.query() + "|" + key.limit(),
+                () -> searchFlights.execute(key, () -> sendSearchRequest(query, limit, domainHint)),
+                this::isSuccessResponse);
+    }
+
+    private CompletableFuture<ByteString> sendSearchRequest(String query, int limit, String domainHint) {
         Map<String, Object> data = new HashMap<>();
         data.put("query", query);
         data.put("limit", limit);
@@ -125,12 +246,11 @@ public class McpWebSocketClient {
             data.put("domain_hint", domainHint);
         }
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.SEARCH_NEW_PATH,
-                "data", data
-        );
-
-        return sendRequest(message);
+        if (hedgePolicy != null) {
+            return withCircuitBreaker(McpConstants.MessageTypes.SEARCH_NEW_PATH,
+                    () -> new HedgedCall(McpConstants.MessageTypes.SEARCH_NEW_PATH, data).start());
+        }
+        return sendRequest(McpConstants.MessageTypes.SEARCH_NEW_PATH, data);
     }
 
     /**
@@ -139,12 +259,9 @@ public class McpWebSocketClient {
     public CompletableFuture<GraphStatsResponse> checkGraph() {
         log.info("Checking graph statistics");
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.CHECK_GRAPH,
-                "data", Map.of()
-        );
-
-        return sendRequest(message)
+        return responseCache.get(McpConstants.MessageTypes.CHECK_GRAPH, null, "stats",
+                        () -> sendRequest(McpConstants.MessageTypes.CHECK_GRAPH, Map.of()),
+                        this::isSuccessResponse)
                 .thenApply(response -> parseResponse(response, GraphStatsResponse.class));
     }
 
@@ -154,12 +271,9 @@ public class McpWebSocketClient {
     public CompletableFuture<VisualizePathsResponse> visualizePaths(String domain) {
         log.info("Visualizing paths for domain: {}", domain);
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.VISUALIZE_PATHS,
-                "data", Map.of("domain", domain)
-        );
-
-        return sendRequest(message)
+        return responseCache.get(McpConstants.MessageTypes.VISUALIZE_PATHS, domain, "paths",
+                        () -> sendRequest(McpConstants.MessageTypes.VISUALIZE_PATHS, Map.of("domain", domain)),
+                        this::isSuccessResponse)
                 .thenApply(response -> parseResponse(response, VisualizePathsResponse.class));
     }
 
@@ -169,15 +283,14 @@ public class McpWebSocketClient {
     public CompletableFuture<PopularPathsResponse> findPopularPaths(String domain, int limit) {
         log.info("Finding popular paths for domain: {} (limit: {})", domain, limit);
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.FIND_POPULAR_PATHS,
-                "data", Map.of(
-                        "domain", domain,
-                        "limit", limit
-                )
+        Map<String, Object> data = Map.of(
+                "domain", domain,
+                "limit", limit
         );
 
-        return sendRequest(message)
+        return responseCache.get(McpConstants.MessageTypes.FIND_POPULAR_PATHS, domain, String.valueOf(limit),
+                        () -> sendRequest(McpConstants.MessageTypes.FIND_POPULAR_PATHS, data),
+                        this::isSuccessResponse)
                 .thenApply(response -> parseResponse(response, PopularPathsResponse.class));
     }
 
@@ -187,12 +300,7 @@ public class McpWebSocketClient {
     public CompletableFuture<IndexResponse> createIndexes() {
         log.info("Creating vector indexes (new structure)");
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.CREATE_NEW_INDEXES,
-                "data", Map.of()
-        );
-
-        return sendRequest(message)
+        return sendRequest(McpConstants.MessageTypes.CREATE_NEW_INDEXES, Map.of())
                 .thenApply(response -> parseResponse(response, IndexResponse.class))
                 .whenComplete((res, ex) -> {
                     if (ex != null) {
@@ -209,12 +317,7 @@ public class McpWebSocketClient {
     public CompletableFuture<CleanupResponse> cleanupPaths() {
         log.info("Cleaning up old paths");
 
-        Map<String, Object> message = Map.of(
-                "type", McpConstants.MessageTypes.CLEANUP_PATHS,
-                "data", Map.of()
-        );
-
-        return sendRequest(message)
+        return sendRequest(McpConstants.MessageTypes.CLEANUP_PATHS, Map.of())
                 .thenApply(response -> parseResponse(response, CleanupResponse.class))
                 .whenComplete((res, ex) -> {
                     if (ex != null) {
@@ -222,56 +325,368 @@ public class McpWebSocketClient {
                     } else {
                         log.info("Cleanup completed: {} relations deleted",
                                 res.getData().getDeletedRelations());
+                        responseCache.invalidateAll();
                     }
                 });
     }
 
     /**
      * MCP 서버로 요청 전송 (CompletableFuture 반환)
+     * 생성한 requestId를 envelope에 포함하여 응답을 해당 요청에 매칭
+     *
+     * 연결별 처리 슬롯이 모두 차 있으면 대기열에서 순서를 기다리며,
+     * 대기열이 가득 찼거나 대기 시간이 지나면 MCP_OVERLOADED로 즉시 실패함
+     *
+     * @param type MCP 메시지 타입
+     * @param data 메시지 데이터
      */
-    private CompletableFuture<String> sendRequest(Map<String, Object> message) {
-        if (!isConnected.get()) {
+    private CompletableFuture<ByteString> sendRequest(String type, Object data) {
+        if (!isConnected()) {
             return CompletableFuture.failedFuture(
-                    new IllegalStateException("MCP 서버에 연결되어 있지 않습니다"));
+                    new McpTransportException("MCP 서버에 연결되어 있지 않습니다"));
         }
 
-        try {
-            String requestId = String.valueOf(requestIdCounter.incrementAndGet());
-            CompletableFuture<String> responseFuture = new CompletableFuture<>();
-            pendingRequests.put(requestId, responseFuture);
+        return withCircuitBreaker(type, () -> admit(newRequest(type, data)));
+    }
 
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            log.debug("Sending request [{}]: {}", requestId, jsonMessage);
+    /**
+     * 서킷 브레이커를 거쳐 요청을 보내고 결과를 기록
+     * 열림 상태면 MCP 서버로 보내지 않고 MCP_UNAVAILABLE로 즉시 실패
+     */
+    private CompletableFuture<ByteString> withCircuitBreaker(String type, Supplier<CompletableFuture<ByteString>> call) {
+        if (!circuitBreaker.tryAcquire()) {
+            meterRegistry.counter("mcp.circuit.rejected", "type", type).increment();
+            return CompletableFuture.failedFuture(McpException.unavailable(
+                    "MCP 서버 장애로 요청을 차단했습니다", circuitBreaker.remainingOpen()));
+        }
 
-            boolean success = webSocket.send(jsonMessage);
-            if (!success) {
-                pendingRequests.remove(requestId);
-                return CompletableFuture.failedFuture(
-                        new IllegalStateException("WebSocket 전송 큐가 가득참"));
+        CompletableFuture<ByteString> response = call.get();
+        response.whenComplete((result, ex) -> recordCircuitOutcome(ex));
+        return response;
+    }
+
+    /**
+     * 응답 타임아웃과 연결 끊김(McpTransportException)만 MCP 서버 장애로 기록
+     * 전송 큐·대기열 거절, 배치 응답 불일치, 취소(헤지 등)는 서버 상태와 무관하므로 제외
+     */
+    private void recordCircuitOutcome(Throwable ex) {
+        if (ex == null) {
+            circuitBreaker.onSuccess();
+            return;
+        }
+
+        Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+        if (cause instanceof TimeoutException || cause instanceof McpTransportException) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onIgnored();
+        }
+    }
+
+    private McpRequest newRequest(String type, Object data) {
+        String requestId = String.valueOf(requestIdCounter.incrementAndGet());
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put(McpConstants.Envelope.TYPE, type);
+        message.put(McpConstants.Envelope.REQUEST_ID, requestId);
+        message.put(McpConstants.Envelope.DATA, data);
+
+        // 직렬화는 연결에서 협상된 방식으로 전송 시점에 수행
+        McpPriority priority = mcpConfig.getAdmission().priorityFor(type);
+        return new McpRequest(requestId, type, priority, message);
+    }
+
+    /**
+     * 요청을 입장 대기열에 넣고 응답 Future를 반환
+     */
+    private CompletableFuture<ByteString> admit(McpRequest request) {
+        String type = request.getType();
+        McpPriority priority = request.getPriority();
+        Duration queueTimeout = mcpConfig.getAdmission().getQueueTimeout();
+        request.setQueueTimeout(timeoutWheel.schedule(() -> expireQueued(request, queueTimeout), queueTimeout));
+
+        if (!admissionQueue.submit(request)) {
+            request.getQueueTimeout().cancel();
+            log.warn("MCP 요청 대기열이 가득 차 거절: type=[{}], lane=[{}], queued=[{}]",
+                    type, priority, admissionQueue.queued());
+            meterRegistry.counter("mcp.admission.rejected", "reason", "queue_full", "lane", priority.tag()).increment();
+            return CompletableFuture.failedFuture(McpException.overloaded("요청 대기열이 가득 찼습니다"));
+        }
+
+        return request.getResponseFuture();
+    }
+
+    /**
+     * 처리 슬롯을 확보한 요청을 연결로 전송하고 응답 타임아웃을 예약
+     */
+    private void dispatch(McpConnection connection, McpRequest request) {
+        if (request.getQueueTimeout() != null) {
+            request.getQueueTimeout().cancel();
+        }
+        request.setConnection(connection);
+        log.debug("Sending request [{}] type=[{}] via [{}] as [{}]",
+                request.getRequestId(), request.getType(), connection.getName(), connection.getWireFormat());
+
+        connection.send(request.getRequestId(), request.getMessage(), request.getResponseFuture());
+        scheduleTimeout(request.getType(), request.getRequestId(), request.getResponseFuture());
+    }
+
+    /**
+     * 대기 시간 안에 처리 슬롯을 얻지 못한 요청을 실패 처리
+     */
+    private void expireQueued(McpRequest request, Duration queueTimeout) {
+        if (!admissionQueue.remove(request)) {
+            return;
+        }
+
+        log.warn("MCP 요청 대기 시간 초과: type=[{}], requestId=[{}], queueTimeout=[{}]",
+                request.getType(), request.getRequestId(), queueTimeout);
+        meterRegistry.counter("mcp.admission.rejected",
+                "reason", "queue_timeout", "lane", request.getPriority().tag()).increment();
+        request.getResponseFuture().completeExceptionally(
+                McpException.overloaded("처리 대기 시간이 초과되었습니다"));
+    }
+
+    /**
+     * 메시지 타입별 응답 타임아웃을 예약
+     * 응답이 먼저 도착하면 타임아웃을 취소하여 휠에서 제거
+     */
+    private void scheduleTimeout(String type, String requestId, CompletableFuture<ByteString> responseFuture) {
+        if (responseFuture.isDone()) {
+            return;
+        }
+
+        Duration timeout = mcpConfig.getTimeout().forType(type);
+        McpTimeoutWheel.Timeout handle = timeoutWheel.schedule(() -> {
+            boolean timedOut = responseFuture.completeExceptionally(new TimeoutException(
+                    String.format("MCP 응답 타임아웃: type=[%s], requestId=[%s], timeout=[%s]", type, requestId, timeout)));
+            if (timedOut) {
+                log.warn("MCP 응답 타임아웃: type=[{}], requestId=[{}], timeout=[{}]", type, requestId, timeout);
+                meterRegistry.counter("mcp.requests.timeout", "type", type).increment();
             }
+        }, timeout);
+
+        responseFuture.whenComplete((response, ex) -> handle.cancel());
+    }
+
+    /**
+     * 처리 중 요청 수가 가장 적고 슬롯이 남은 정상 연결에서 슬롯을 확보
+     * INTERACTIVE가 아닌 요청은 INTERACTIVE용으로 남겨둔 슬롯을 쓰지 않음
+     * 다른 스레드와 경합하여 확보에 실패하면 다시 선택함
+     *
+     * @return 슬롯을 확보한 연결 (여유 있는 연결이 없으면 null)
+     */
+    private McpConnection acquireConnection(McpPriority priority) {
+        return acquireConnection(priority, null);
+    }
+
+    /**
+     * @param excludedUrl 제외할 엔드포인트 (헤지 요청을 다른 서버로 보낼 때 사용)
+     */
+    private McpConnection acquireConnection(McpPriority priority, String excludedUrl) {
+        int size = connections.size();
+        McpConfig.Admission admissionConfig = mcpConfig.getAdmission();
+        int maxInFlight = admissionConfig.getMaxInFlightPerConnection();
+        if (priority != McpPriority.INTERACTIVE) {
+            maxInFlight = Math.max(1, maxInFlight - admissionConfig.getReservedInteractivePerConnection());
+        }
+
+        for (int attempt = 0; attempt < size; attempt++) {
+            int offset = Math.floorMod(selectionOffset.getAndIncrement(), size);
+            McpConnection selected = null;
 
-            CompletableFuture.delayedExecutor(30, TimeUnit.SECONDS).execute(() -> {
-                CompletableFuture<String> future = pendingRequests.remove(requestId);
-                if (future != null && !future.isDone()) {
-                    future.completeExceptionally(new RuntimeException("MCP 응답 타임아웃"));
+            for (int i = 0; i < size; i++) {
+                McpConnection candidate = connections.get((offset + i) % size);
+                if (candidate.isHealthy() && candidate.inFlight() < maxInFlight
+                        && !candidate.getUrl().equals(excludedUrl)
+                        && (selected == null || candidate.inFlight() < selected.inFlight())) {
+                    selected = candidate;
                 }
-            });
+            }
 
-            return responseFuture;
+            if (selected == null) {
+                return null;
+            }
+            if (selected.tryAcquire(maxInFlight)) {
+                return selected;
+            }
+        }
+        return null;
+    }
 
-        } catch (Exception e) {
-            return CompletableFuture.failedFuture(e);
+    /**
+     * 응답을 기다리지 않는 메시지를 보낼 연결을 선택
+     * 정상 연결이 없으면 전송 큐가 밀린 연결이라도 연결된 것을 사용
+     *
+     * @return 선택된 연결 (연결된 것이 없으면 null)
+     */
+    private McpConnection selectConnection() {
+        int size = connections.size();
+        if (size == 0) {
+            return null;
+        }
+
+        int offset = Math.floorMod(selectionOffset.getAndIncrement(), size);
+        McpConnection selected = null;
+        McpConnection fallback = null;
+
+        for (int i = 0; i < size; i++) {
+            McpConnection candidate = connections.get((offset + i) % size);
+            if (candidate.isHealthy()) {
+                if (selected == null || candidate.inFlight() < selected.inFlight()) {
+                    selected = candidate;
+                }
+            } else if (fallback == null && candidate.isConnected()) {
+                fallback = candidate;
+            }
         }
+
+        return selected != null ? selected : fallback;
+    }
+
+    /**
+     * 응답 envelope의 최상위 requestId 필드를 추출
+     *
+     * @param json MCP 서버로부터 수신한 JSON 메시지
+     * @return requestId (없거나 파싱할 수 없으면 null)
+     */
+    private String extractRequestId(ByteString json) {
+        return extractTopLevelField(json, McpConstants.Envelope.REQUEST_ID);
+    }
+
+    /**
+     * 응답을 받을 클라이언트의 sessionId를 추출 (최상위 또는 data 안의 sessionId)
+     *
+     * @return sessionId (없으면 null)
+     */
+    private String extractSessionId(ByteString json) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(McpMessageCodec.inputStream(json))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (McpConstants.Envelope.SESSION_ID.equals(fieldName) && valueToken == JsonToken.VALUE_STRING) {
+                    return parser.getText();
+                }
+                if (McpConstants.Envelope.DATA.equals(fieldName) && valueToken == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String dataField = parser.currentName();
+                        JsonToken dataToken = parser.nextToken();
+                        if (McpConstants.Envelope.SESSION_ID.equals(dataField) && dataToken == JsonToken.VALUE_STRING) {
+                            return parser.getText();
+                        }
+                        parser.skipChildren();
+                    }
+                    continue;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("MCP 메시지에서 sessionId 추출 실패", e);
+        }
+        return null;
+    }
+
+    /**
+     * 캐시에 보관할 수 있는 정상 응답인지 확인
+     */
+    private boolean isSuccessResponse(ByteString json) {
+        return McpConstants.Status.SUCCESS.equals(extractTopLevelField(json, McpConstants.Envelope.STATUS));
+    }
+
+    /**
+     * 최상위 스칼라 필드 값을 추출
+     * 트리를 만들지 않고 스트리밍 파서로 최상위 필드만 훑음
+     *
+     * @param json JSON 메시지
+     * @param field 필드 이름
+     * @return 필드 값 (없거나 파싱할 수 없으면 null)
+     */
+    private String extractTopLevelField(ByteString json, String field) {
+        try (JsonParser parser = objectMapper.getFactory().createParser(McpMessageCodec.inputStream(json))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return null;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                if (field.equals(fieldName)) {
+                    return valueToken.isScalarValue() && valueToken != JsonToken.VALUE_NULL
+                            ? parser.getValueAsString()
+                            : null;
+                }
+                parser.skipChildren();
+            }
+        } catch (IOException e) {
+            log.debug("MCP 메시지에서 필드 추출 실패: field=[{}]", field, e);
+        }
+        return null;
+    }
+
+    /**
+     * 기여모드로 저장된 단계들의 URL 도메인에 해당하는 조회 캐시를 무효화
+     */
+    private void invalidateContributedDomains(ControlDto.ContributionMessage contributionMessage) {
+        contributionMessage.getSteps().stream()
+                .map(ControlDto.ContributionStep::getUrl)
+                .map(this::extractHost)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(responseCache::invalidateDomain);
+    }
+
+    private String extractHost(String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            return URI.create(url.trim()).getHost();
+        } catch (IllegalArgumentException e) {
+            log.debug("기여모드 단계 URL 파싱 실패: url=[{}]", url);
+            return null;
+        }
+    }
+
+    /**
+     * 경로 저장 요청 하나를 save_new_path 메시지로 전송
+     */
+    private CompletableFuture<SavePathResponse> sendSingleSave(PathSubmission pathSubmission) {
+        return sendRequest(McpConstants.MessageTypes.SAVE_NEW_PATH, pathSubmission)
+                .thenApply(response -> parseResponse(response, SavePathResponse.class));
+    }
+
+    /**
+     * 묶인 경로 저장 요청을 하나의 save_new_paths 메시지로 전송
+     * 한 건뿐이면 기존 save_new_path로 보냄
+     *
+     * @return 요청 순서와 같은 순서의 항목별 저장 응답
+     */
+    private CompletableFuture<List<SavePathResponse>> sendSaveBatch(List<PathSubmission> paths) {
+        if (paths.size() == 1) {
+            return sendSingleSave(paths.get(0)).thenApply(List::of);
+        }
+
+        return sendRequest(McpConstants.MessageTypes.SAVE_NEW_PATHS, Map.of("paths", paths))
+                .thenApply(response -> {
+                    SavePathBatchResponse batch = parseResponse(response, SavePathBatchResponse.class);
+                    if (batch.getData() == null || batch.getData().getResults() == null) {
+                        return List.of();
+                    }
+                    return batch.getData().getResults().stream()
+                            .map(item -> item.toSavePathResponse(McpConstants.MessageTypes.SAVE_NEW_PATH))
+                            .toList();
+                });
     }
 
     /**
      * JSON 응답을 특정 타입으로 파싱
      */
-    private <T> T parseResponse(String json, Class<T> clazz) {
+    private <T> T parseResponse(ByteString json, Class<T> clazz) {
         try {
-            return objectMapper.readValue(json, clazz);
+            return objectMapper.readValue(McpMessageCodec.inputStream(json), clazz);
         } catch (Exception e) {
-            log.error("Failed to parse response: {}", json, e);
+            log.error("Failed to parse response: {}", json.utf8(), e);
             throw new RuntimeException("Failed to parse MCP response", e);
         }
     }
@@ -283,7 +698,8 @@ public class McpWebSocketClient {
      * @param sessionId 클라이언트 세션 식별자
      */
     public void sendVoiceCommand(String transcript, String sessionId) {
-        if (!isConnected.get()) {
+        McpConnection connection = selectConnection();
+        if (connection == null) {
             log.error("MCP 서버에 연결되어 있지 않습니다. 메시지 전송 실패: transcript=[{}], sessionId=[{}]", 
                     transcript, sessionId);
             return;
@@ -295,8 +711,10 @@ public class McpWebSocketClient {
         }
 
         try {
+            // 응답을 요청한 클라이언트로 돌려보낼 수 있도록 sessionId를 최상위에도 담음
             Map<String, Object> message = Map.of(
                 "type", McpConstants.MessageTypes.SEARCH_NEW_PATH,
+                McpConstants.Envelope.SESSION_ID, sessionId,
                 "data", Map.of(
                     "query", transcript.trim(),
                     "limit", NetworkConstants.MCP.SEARCH_PATH_LIMIT,
@@ -304,8 +722,7 @@ public class McpWebSocketClient {
                 )
             );
 
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            boolean success = webSocket.send(jsonMessage);
+            boolean success = connection.sendOneWay(message);
             
             if (success) {
                 log.info("MCP 서버로 음성 명령 전송 성공: sessionId=[{}], transcript=[{}]", 
@@ -321,93 +738,133 @@ public class McpWebSocketClient {
     }
 
     /**
-     * 기여모드 데이터를 MCP 서버로 전송
+     * 기여모드 데이터를 MCP 서버에 저장
+     *
+     * mcp.save-batch.enabled가 켜져 있으면 하나의 save_contribution_paths 요청으로 보내고
+     * MCP 서버가 성공으로 응답해야 전체가 저장된 것으로 완료됨 (실패 응답·타임아웃·연결 끊김은 예외로 완료)
+     * 꺼져 있으면 기존 MCP 서버가 이해하는 save_contribution_path 메시지를 항목마다 응답 없이 보내며,
+     * 전송 큐에 들어간 항목까지를 저장된 것으로 봄
      *
-     * @param contributionMessage 기여모드 메시지
+     * @param contributions contributionId(재전송 시 MCP 서버가 중복을 걸러낼 수 있는 식별자)별 기여모드 메시지
+     * @return 저장된 항목의 contributionId (하나도 보내지 못했으면 예외로 완료)
      */
-    public void sendContributionData(ControlDto.ContributionMessage contributionMessage) {
-        if (!isConnected.get()) {
-            log.error("MCP 서버에 연결되어 있지 않습니다. 기여모드 데이터 전송 실패: sessionId=[{}]",
-                    contributionMessage.getSessionId());
-            return;
+    public CompletableFuture<Set<String>> saveContributions(Map<String, ControlDto.ContributionMessage> contributions) {
+        if (!mcpConfig.getSaveBatch().isEnabled()) {
+            return sendContributionsOneWay(contributions);
         }
 
-        if (contributionMessage.getSteps() == null || contributionMessage.getSteps().isEmpty()) {
-            log.warn("빈 기여모드 단계는 전송하지 않습니다: sessionId=[{}]", contributionMessage.getSessionId());
-            return;
-        }
+        List<Map<String, Object>> items = new ArrayList<>(contributions.size());
+        contributions.forEach((contributionId, contributionMessage) ->
+                items.add(contributionItem(contributionId, contributionMessage)));
 
-        try {
-            Map<String, Object> message = Map.of(
-                "type", "save_contribution_path",
-                "data", Map.of(
-                    "sessionId", contributionMessage.getSessionId(),
-                    "task", contributionMessage.getTask(),
-                    "steps", contributionMessage.getSteps(),
-                    "isPartial", contributionMessage.isPartial(),
-                    "isComplete", contributionMessage.isComplete(),
-                    "totalSteps", contributionMessage.getTotalSteps()
-                )
-            );
+        return sendRequest(McpConstants.MessageTypes.SAVE_CONTRIBUTION_PATHS, Map.of("contributions", items))
+                .thenApply(response -> {
+                    if (!isSuccessResponse(response)) {
+                        throw new McpException(ErrorCode.MCP_SERVER_ERROR, "기여모드 데이터 저장 실패 응답");
+                    }
+                    contributions.values().forEach(this::invalidateContributedDomains);
+                    log.info("MCP 서버에 기여모드 데이터 저장 완료: count=[{}]", contributions.size());
+                    return contributions.keySet();
+                });
+    }
 
-            String jsonMessage = objectMapper.writeValueAsString(message);
-            boolean success = webSocket.send(jsonMessage);
+    /**
+     * 배치 저장을 지원하지 않는 MCP 서버용: 항목마다 save_contribution_path 메시지를 응답 없이 전송
+     * 전송 큐가 가득 차면 남은 항목은 보내지 않음
+     */
+    private CompletableFuture<Set<String>> sendContributionsOneWay(
+            Map<String, ControlDto.ContributionMessage> contributions) {
+        McpConnection connection = selectConnection();
+        if (connection == null) {
+            return CompletableFuture.failedFuture(new McpTransportException("MCP 서버에 연결되어 있지 않습니다"));
+        }
 
-            if (success) {
-                log.info("MCP 서버로 기여모드 데이터 전송 성공: sessionId=[{}], stepCount=[{}]",
-                        contributionMessage.getSessionId(), contributionMessage.getSteps().size());
-            } else {
-                log.error("MCP 서버로 기여모드 데이터 전송 실패: WebSocket 전송 큐가 가득참");
+        Set<String> sent = new LinkedHashSet<>();
+        for (Map.Entry<String, ControlDto.ContributionMessage> entry : contributions.entrySet()) {
+            Map<String, Object> message = Map.of(
+                    McpConstants.Envelope.TYPE, McpConstants.MessageTypes.SAVE_CONTRIBUTION_PATH,
+                    McpConstants.Envelope.DATA, contributionItem(entry.getKey(), entry.getValue()));
+            try {
+                if (!connection.sendOneWay(message)) {
+                    log.warn("MCP 서버로 기여모드 데이터 전송 실패: WebSocket 전송 큐가 가득참");
+                    break;
+                }
+            } catch (JsonProcessingException e) {
+                log.error("기여모드 데이터 JSON 직렬화 실패: sessionId=[{}]", entry.getValue().getSessionId(), e);
+                break;
             }
+            sent.add(entry.getKey());
+            invalidateContributedDomains(entry.getValue());
+        }
 
-        } catch (Exception e) {
-            log.error("기여모드 데이터 JSON 직렬화 또는 전송 실패: sessionId=[{}]",
-                    contributionMessage.getSessionId(), e);
+        if (sent.isEmpty()) {
+            return CompletableFuture.failedFuture(new IllegalStateException("기여모드 데이터를 전송 큐에 넣지 못했습니다"));
         }
+        log.info("MCP 서버로 기여모드 데이터 전송: sent=[{}], requested=[{}]", sent.size(), contributions.size());
+        return CompletableFuture.completedFuture(sent);
+    }
+
+    private Map<String, Object> contributionItem(String contributionId,
+                                                 ControlDto.ContributionMessage contributionMessage) {
+        // task는 비어 있을 수 있으므로 null을 허용하는 Map을 사용
+        Map<String, Object> item = new LinkedHashMap<>();
+        item.put("contributionId", contributionId);
+        item.put("sessionId", contributionMessage.getSessionId());
+        item.put("task", contributionMessage.getTask());
+        item.put("steps", contributionMessage.getSteps());
+        item.put("isPartial", contributionMessage.isPartial());
+        item.put("isComplete", contributionMessage.isComplete());
+        item.put("totalSteps", contributionMessage.getTotalSteps());
+        return item;
     }
 
     /**
      * MCP 서버와의 연결 여부를 확인
      *
-     * @return 연결되어 있으면 true, 아니면 false
+     * @return 풀 내 연결 중 하나라도 연결되어 있으면 true, 아니면 false
      */
     public boolean isConnected() {
-        return isConnected.get() && webSocket != null;
+        return connections.stream().anyMatch(McpConnection::isConnected);
     }
 
-    /**
-     * 지연 후 재연결을 스케줄링
-     */
-    private void scheduleReconnect() {
-        if (isShuttingDown.get()) {
-            return;
-        }
+    McpCircuitBreaker.State circuitState() {
+        return circuitBreaker.state();
+    }
 
-        new Thread(() -> {
-            try {
-                log.info("MCP 서버 재연결 대기 중: {}ms 후 재시도", reconnectDelayMs);
-                Thread.sleep(reconnectDelayMs);
-                
-                if (!isShuttingDown.get()) {
-                    log.info("MCP 서버 재연결 시도...");
-                    establishConnection();
-                }
-            } catch (InterruptedException e) {
-                log.debug("재연결 대기 중 인터럽트 발생", e);
-                Thread.currentThread().interrupt();
-            }
-        }, "mcp-reconnect-thread").start();
+    long connectedCount() {
+        return connections.stream().filter(McpConnection::isConnected).count();
+    }
+
+    int connectionCount() {
+        return connections.size();
+    }
+
+    int admissionQueued() {
+        return admissionQueue.queued();
     }
 
     @PreDestroy
     public void disconnect() {
         log.info("MCP 클라이언트 종료 시작");
-        isShuttingDown.set(true);
-        
-        if (webSocket != null) {
-            webSocket.close(NetworkConstants.WebSocket.NORMAL_CLOSURE_CODE, ErrorMessages.MCP.APPLICATION_SHUTDOWN);
-            log.info("MCP WebSocket 연결 종료 요청 완료");
+
+        if (saveBatcher != null) {
+            saveBatcher.close();
+        }
+
+        if (timeoutWheel != null) {
+            timeoutWheel.stop();
         }
+
+        if (reconnectScheduler != null) {
+            reconnectScheduler.shutdownNow();
+        }
+
+        if (hedgeScheduler != null) {
+            hedgeScheduler.shutdownNow();
+        }
+
+        connections.forEach(McpConnection::close);
+        log.info("MCP WebSocket 연결 종료 요청 완료: connections=[{}]", connections.size());
         
         client.dispatcher().executorService().shutdown();
         client.connectionPool().evictAll();
@@ -425,65 +882,149 @@ public class McpWebSocketClient {
     }
 
     /**
-     * MCP 서버 이벤트용 WebSocket 리스너
+     * 풀 내 연결에서 수신한 메시지를 처리
+     * requestId가 있으면 해당 요청에 응답을 전달하고, 없으면 연결된 클라이언트로 중계
+     *
+     * @param connection 메시지를 수신한 연결
+     * @param payload 수신한 UTF-8 JSON 메시지
      */
-    private class McpWebSocketListener extends WebSocketListener {
-        
-        @Override
-        public void onOpen(WebSocket webSocket, Response response) {
-            isConnected.set(true);
-            log.info("MCP 서버 연결 성공: url=[{}], protocol=[{}]", 
-                    mcpServerUrl, response.protocol());
-        }
-
-        @Override
-        public void onMessage(WebSocket webSocket, String text) {
-            log.info("MCP 서버에서 메시지 수신: messageLength=[{}]", text.length());
-            log.debug("MCP 서버 메시지 내용: {}", text);
-
-            if (!pendingRequests.isEmpty()) {
-                String firstKey = pendingRequests.keySet().iterator().next();
-                CompletableFuture<String> future = pendingRequests.remove(firstKey);
-                if (future != null && !future.isDone()) {
-                    future.complete(text);
-                    log.debug("CompletableFuture 응답 완료: requestId=[{}]", firstKey);
-                    return;
-                }
+    private void handleMessage(McpConnection connection, ByteString payload) {
+        log.debug("MCP 서버에서 메시지 수신: connection=[{}], messageBytes=[{}]", connection.getName(), payload.size());
+        if (log.isDebugEnabled() && ThreadLocalRandom.current().nextInt(PAYLOAD_LOG_SAMPLE_RATE) == 0) {
+            log.debug("MCP 서버 메시지 내용 (샘플): {}", payload.utf8());
+        }
+
+        String requestId = extractRequestId(payload);
+        if (requestId != null) {
+            if (connection.complete(requestId, payload)) {
+                log.debug("CompletableFuture 응답 완료: requestId=[{}]", requestId);
+            } else {
+                log.warn("대기 중인 요청이 없는 MCP 응답 무시 (타임아웃 이후 도착 가능): requestId=[{}]", requestId);
             }
+            return;
+        }
 
-            try {
-                controlService.relayMcpResponse(text);
-                log.debug("MCP 응답 클라이언트 중계 완료");
-            } catch (Exception e) {
-                log.error("MCP 응답 중계 실패", e);
+        try {
+            controlService.relayMcpResponse(extractSessionId(payload), payload.utf8());
+            log.debug("MCP 응답 클라이언트 중계 완료");
+        } catch (Exception e) {
+            log.error("MCP 응답 중계 실패", e);
+        }
+    }
+
+    /**
+     * 헤지 검색 요청 한 건
+     *
+     * 첫 요청이 헤지 대기 시간(최근 p95) 안에 응답하지 않으면 다른 엔드포인트로 같은 요청을 한 번 더 보냄
+     * 먼저 성공한 응답을 사용하고 나머지 요청은 취소하며, 모든 요청이 실패하면 마지막 오류를 전달
+     * 첫 요청이 아직 대기열에 있거나, 헤지 예산이 없거나, 다른 엔드포인트에 여유가 없으면 헤지하지 않음
+     */
+    private final class HedgedCall {
+
+        private final String type;
+        private final Object data;
+        private final CompletableFuture<ByteString> result = new CompletableFuture<>();
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+        private final List<CompletableFuture<ByteString>> attempts = new CopyOnWriteArrayList<>();
+        private final long startedAt = System.nanoTime();
+        private McpRequest primary;
+
+        private HedgedCall(String type, Object data) {
+            this.type = type;
+            this.data = data;
+        }
+
+        CompletableFuture<ByteString> start() {
+            if (!isConnected()) {
+                return CompletableFuture.failedFuture(
+                        new McpTransportException("MCP 서버에 연결되어 있지 않습니다"));
+            }
+
+            hedgePolicy.onRequest();
+            primary = newRequest(type, data);
+            track(admit(primary), false);
+            if (result.isDone()) {
+                return result;
             }
+
+            ScheduledFuture<?> hedgeTimer = hedgeScheduler.schedule(
+                    this::hedge, hedgePolicy.hedgeDelay().toNanos(), TimeUnit.NANOSECONDS);
+            result.whenComplete((response, ex) -> {
+                hedgeTimer.cancel(false);
+                attempts.forEach(attempt -> attempt.cancel(false));
+            });
+            return result;
         }
 
-        @Override
-        public void onFailure(WebSocket webSocket, Throwable t, Response response) {
-            isConnected.set(false);
-            log.error("MCP 서버 연결 실패: response=[{}]", 
-                    response != null ? response.code() + " " + response.message() : "null", t);
-            
-            if (!isShuttingDown.get()) {
-                scheduleReconnect();
+        private void hedge() {
+            if (result.isDone()) {
+                return;
             }
+
+            McpConnection primaryConnection = primary.getConnection();
+            if (primaryConnection == null) {
+                recordHedge("skipped_queued");
+                return;
+            }
+            if (!hedgePolicy.tryHedge()) {
+                recordHedge("skipped_budget");
+                return;
+            }
+            McpConnection connection = acquireConnection(McpPriority.INTERACTIVE, primaryConnection.getUrl());
+            if (connection == null) {
+                hedgePolicy.refund();
+                recordHedge("skipped_no_replica");
+                return;
+            }
+            if (outstanding.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+                // 그 사이 첫 요청이 실패로 끝난 경우
+                connection.release();
+                return;
+            }
+
+            McpRequest hedge = newRequest(type, data);
+            track(hedge.getResponseFuture(), true);
+            log.debug("MCP 헤지 요청 전송: type=[{}], primary=[{}] via [{}], hedge=[{}] via [{}]",
+                    type, primary.getRequestId(), primaryConnection.getName(), hedge.getRequestId(), connection.getName());
+            recordHedge("sent");
+            dispatch(connection, hedge);
+        }
+
+        private void track(CompletableFuture<ByteString> attempt, boolean hedge) {
+            attempts.add(attempt);
+            attempt.whenComplete((response, ex) -> {
+                if (ex == null) {
+                    if (result.complete(response)) {
+                        hedgePolicy.recordLatency(System.nanoTime() - startedAt);
+                        if (hedge) {
+                            recordHedge("won");
+                        }
+                    }
+                } else if (outstanding.decrementAndGet() == 0) {
+                    result.completeExceptionally(ex);
+                }
+            });
         }
 
-        @Override
-        public void onClosing(WebSocket webSocket, int code, String reason) {
-            isConnected.set(false);
-            log.warn("MCP 서버 연결 종료 중: code=[{}], reason=[{}]", code, reason);
+        private void recordHedge(String outcome) {
+            meterRegistry.counter("mcp.hedge.requests", "type", type, "result", outcome).increment();
         }
+    }
 
-        @Override
-        public void onClosed(WebSocket webSocket, int code, String reason) {
-            isConnected.set(false);
-            log.warn("MCP 서버 연결 종료됨: code=[{}], reason=[{}]", code, reason);
-            
-            if (!isShuttingDown.get() && code != 1000) {
-                scheduleReconnect();
-            }
+    /**
+     * 검색 요청 합치기에 사용하는 키
+     * 대소문자와 공백 차이만 있는 검색어는 같은 검색으로 취급
+     */
+    private record SearchKey(String query, int limit, String domainHint) {
+
+        static SearchKey of(String query, int limit, String domainHint) {
+            String normalizedQuery = query == null
+                    ? ""
+                    : WHITESPACE.matcher(query.trim()).replaceAll(" ").toLowerCase(Locale.ROOT);
+            String normalizedDomain = domainHint == null || domainHint.isBlank()
+                    ? null
+                    : domainHint.trim().toLowerCase(Locale.ROOT);
+            return new SearchKey(normalizedQuery, limit, normalizedDomain);
         }
     }
-}
\ No newline at end of file
+}
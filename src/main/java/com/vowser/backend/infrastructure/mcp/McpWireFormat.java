@@ -0,0 +1,45 @@
+package com.vowser.backend.infrastructure.mcp;
+
+/**
+ * MCP WebSocket 메시지 인코딩 방식
+ * 연결 시 Sec-WebSocket-Protocol 서브프로토콜로 협상하며, 서버가 응답하지 않으면 JSON을 사용
+ */
+public enum McpWireFormat {
+
+    /**
+     * UTF-8 JSON 텍스트 프레임 (기존 서버 호환)
+     */
+    JSON("vowser-mcp.json"),
+
+    /**
+     * CBOR 바이너리 프레임
+     */
+    CBOR("vowser-mcp.cbor");
+
+    private final String subprotocol;
+
+    McpWireFormat(String subprotocol) {
+        this.subprotocol = subprotocol;
+    }
+
+    public String subprotocol() {
+        return subprotocol;
+    }
+
+    /**
+     * 서버가 선택한 서브프로토콜에 해당하는 인코딩 방식을 반환
+     *
+     * @param subprotocol 핸드셰이크 응답의 Sec-WebSocket-Protocol 값
+     * @return 일치하는 방식이 없으면 JSON
+     */
+    public static McpWireFormat fromSubprotocol(String subprotocol) {
+        if (subprotocol != null) {
+            for (McpWireFormat format : values()) {
+                if (format.subprotocol.equalsIgnoreCase(subprotocol.trim())) {
+                    return format;
+                }
+            }
+        }
+        return JSON;
+    }
+}
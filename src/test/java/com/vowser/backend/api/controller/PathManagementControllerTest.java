@@ -0,0 +1,102 @@
+package com.vowser.backend.api.controller;
+
+import com.vowser.backend.common.exception.ErrorCode;
+import com.vowser.backend.common.exception.GlobalExceptionHandler;
+import com.vowser.backend.common.exception.McpException;
+import com.vowser.backend.infrastructure.mcp.McpWebSocketClient;
+import okio.ByteString;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ExtendWith(MockitoExtension.class)
+class PathManagementControllerTest {
+
+    private static final String SEARCH_RESPONSE =
+            "{\"type\":\"search_new_path\",\"status\":\"success\",\"data\":{\"query\":\"유튜브에서 음악 찾기\"}}";
+
+    @Mock
+    private McpWebSocketClient mcpClient;
+
+    @InjectMocks
+    private PathManagementController pathManagementController;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(pathManagementController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("경로 검색 - MCP 응답 바이트를 그대로 응답 본문으로 전달")
+    void searchPath_StreamsRawMcpResponse() throws Exception {
+        ByteString payload = ByteString.encodeUtf8(SEARCH_RESPONSE);
+        given(mcpClient.searchPathRaw("유튜브에서 음악 찾기", 3, null))
+                .willReturn(CompletableFuture.completedFuture(payload));
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/paths/search").param("query", "유튜브에서 음악 찾기"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MvcResult streamingResult = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(streamingResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "application/json;charset=UTF-8"))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, payload.size()))
+                .andExpect(content().bytes(payload.toByteArray()));
+    }
+
+    @Test
+    @DisplayName("경로 검색 - MCP 과부하 시 429와 Retry-After 반환")
+    void searchPath_Overloaded_Returns429() throws Exception {
+        given(mcpClient.searchPathRaw("유튜브에서 음악 찾기", 3, null))
+                .willReturn(CompletableFuture.failedFuture(McpException.overloaded("요청 대기열이 가득 찼습니다")));
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/paths/search").param("query", "유튜브에서 음악 찾기"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists(HttpHeaders.RETRY_AFTER))
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("경로 검색 - 서킷 브레이커가 열려 있으면 503과 남은 차단 시간을 Retry-After로 반환")
+    void searchPath_CircuitOpen_Returns503() throws Exception {
+        given(mcpClient.searchPathRaw("유튜브에서 음악 찾기", 3, null))
+                .willReturn(CompletableFuture.failedFuture(
+                        McpException.unavailable("MCP 서버 장애로 요청을 차단했습니다", Duration.ofMillis(7200))));
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/v1/paths/search").param("query", "유튜브에서 음악 찾기"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "8"))
+                .andExpect(jsonPath("$.error.code").value(ErrorCode.MCP_UNAVAILABLE.getCode()));
+    }
+}
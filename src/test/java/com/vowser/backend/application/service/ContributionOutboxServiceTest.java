@@ -0,0 +1,186 @@
+package com.vowser.backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.common.enums.OutboxStatus;
+import com.vowser.backend.domain.contribution.entity.ContributionOutbox;
+import com.vowser.backend.domain.contribution.repository.ContributionOutboxRepository;
+import com.vowser.backend.infrastructure.config.McpConfig;
+import com.vowser.backend.infrastructure.mcp.McpWebSocketClient;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ContributionOutboxServiceTest {
+
+    @Mock
+    private ContributionOutboxRepository outboxRepository;
+
+    @Mock
+    private McpWebSocketClient mcpWebSocketClient;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ContributionOutboxService outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new ContributionOutboxService(outboxRepository, mcpWebSocketClient, objectMapper,
+                new McpConfig(), meterRegistry, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxService.shutdown();
+    }
+
+    @Test
+    @DisplayName("MCP 연결 여부와 관계없이 기여모드 데이터를 outbox에 저장")
+    void enqueue_StoresPendingEntry() {
+        ControlDto.ContributionMessage message = contribution("session-1");
+        given(outboxRepository.existsByDedupKey(anyString())).willReturn(false);
+
+        assertTrue(outboxService.enqueue(message));
+
+        ArgumentCaptor<ContributionOutbox> captor = ArgumentCaptor.forClass(ContributionOutbox.class);
+        verify(outboxRepository).save(captor.capture());
+        assertEquals(OutboxStatus.PENDING, captor.getValue().getStatus());
+        assertEquals("session-1", captor.getValue().getSessionId());
+        assertEquals(64, captor.getValue().getDedupKey().length());
+        verifyNoInteractions(mcpWebSocketClient);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 기여모드 데이터는 한 번만 저장")
+    void enqueue_Duplicate_IsSkipped() {
+        given(outboxRepository.existsByDedupKey(anyString())).willReturn(true);
+
+        assertFalse(outboxService.enqueue(contribution("session-1")));
+
+        verify(outboxRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("웹소켓 스레드를 막지 않도록 기여모드 데이터를 별도 스레드에서 저장")
+    void enqueueAsync_StoresOffCallerThread() {
+        Thread caller = Thread.currentThread();
+        given(outboxRepository.existsByDedupKey(anyString())).willAnswer(invocation -> {
+            assertNotSame(caller, Thread.currentThread());
+            return false;
+        });
+
+        assertTrue(outboxService.enqueueAsync(contribution("session-1")).join());
+
+        verify(outboxRepository).save(any(ContributionOutbox.class));
+    }
+
+    @Test
+    @DisplayName("점유한 항목을 한 번에 보내고 MCP 서버에 전달된 항목만 전송 완료로 기록")
+    @SuppressWarnings("unchecked")
+    void drainBatch_MarksSentAfterSuccessResponse() throws Exception {
+        ContributionOutbox first = entry(1L, "key-1", contribution("session-1"));
+        ContributionOutbox second = entry(2L, "key-2", contribution("session-2"));
+        given(outboxRepository.findClaimable(eq(OutboxStatus.PENDING), any(), any())).willReturn(List.of(first, second));
+        given(outboxRepository.findAllById(any())).willReturn(List.of(first, second));
+        CompletableFuture<Set<String>> response = new CompletableFuture<>();
+        given(mcpWebSocketClient.saveContributions(any())).willReturn(response);
+
+        CompletableFuture<Void> drained = outboxService.drainBatch();
+
+        ArgumentCaptor<Map<String, ControlDto.ContributionMessage>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(mcpWebSocketClient).saveContributions(captor.capture());
+        assertEquals(List.of("key-1", "key-2"), List.copyOf(captor.getValue().keySet()));
+        assertEquals(OutboxStatus.PENDING, first.getStatus());
+        assertEquals(1, first.getAttempts());
+        assertNotNull(first.getNextAttemptAt());
+
+        LocalDateTime before = LocalDateTime.now();
+        response.complete(Set.of("key-1"));
+        drained.join();
+
+        assertEquals(OutboxStatus.SENT, first.getStatus());
+        assertEquals(OutboxStatus.PENDING, second.getStatus());
+        assertTrue(second.getNextAttemptAt().isAfter(before));
+    }
+
+    @Test
+    @DisplayName("MCP 서버가 실패하거나 응답하지 않으면 PENDING으로 두고 재시도 시각을 늦춤")
+    void drainBatch_Failure_LeavesPendingWithBackoff() throws Exception {
+        ContributionOutbox entry = entry(1L, "key-1", contribution("session-1"));
+        given(outboxRepository.findClaimable(eq(OutboxStatus.PENDING), any(), any())).willReturn(List.of(entry));
+        given(outboxRepository.findAllById(any())).willReturn(List.of(entry));
+        given(mcpWebSocketClient.saveContributions(any()))
+                .willReturn(CompletableFuture.failedFuture(new TimeoutException("timeout")));
+
+        LocalDateTime before = LocalDateTime.now();
+        outboxService.drainBatch().join();
+
+        assertEquals(OutboxStatus.PENDING, entry.getStatus());
+        assertNull(entry.getSentAt());
+        assertTrue(entry.getNextAttemptAt().isAfter(before));
+        assertTrue(entry.getNextAttemptAt().isBefore(before.plusMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("읽을 수 없는 항목은 보내지 않고 실패로 기록")
+    void drainBatch_UnreadablePayload_IsMarkedFailed() {
+        ContributionOutbox broken = ContributionOutbox.builder().id(1L).dedupKey("key-1").payload("{").build();
+        given(outboxRepository.findClaimable(eq(OutboxStatus.PENDING), any(), any())).willReturn(List.of(broken));
+
+        outboxService.drainBatch().join();
+
+        assertEquals(OutboxStatus.FAILED, broken.getStatus());
+        assertEquals(1.0, meterRegistry.counter("mcp.outbox.failed").count());
+        verify(mcpWebSocketClient, never()).saveContributions(any());
+    }
+
+    @Test
+    @DisplayName("MCP 서버에 연결되어 있지 않으면 전송하지 않음")
+    void drain_WhenDisconnected_SendsNothing() {
+        given(mcpWebSocketClient.isConnected()).willReturn(false);
+
+        outboxService.drain();
+
+        verify(outboxRepository, never()).findClaimable(any(), any(), any());
+        verify(mcpWebSocketClient, never()).saveContributions(any());
+    }
+
+    private ContributionOutbox entry(Long id, String dedupKey, ControlDto.ContributionMessage message) throws Exception {
+        return ContributionOutbox.builder()
+                .id(id)
+                .dedupKey(dedupKey)
+                .sessionId(message.getSessionId())
+                .payload(objectMapper.writeValueAsString(message))
+                .build();
+    }
+
+    private static ControlDto.ContributionMessage contribution(String sessionId) {
+        ControlDto.ContributionMessage message = new ControlDto.ContributionMessage();
+        message.setSessionId(sessionId);
+        message.setTask("로그인");
+        message.setSteps(List.of(new ControlDto.ContributionStep(
+                "https://example.com/login", "로그인", "click", "#login", Map.of(), 1L)));
+        return message;
+    }
+}
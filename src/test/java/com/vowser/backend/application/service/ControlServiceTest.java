@@ -0,0 +1,354 @@
+package com.vowser.backend.application.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import com.vowser.backend.infrastructure.control.ControlSessionDirectory;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.PingMessage;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ControlServiceTest {
+
+    private ControlSessionDirectory sessionDirectory;
+    private ControlSessionOutbound sessionOutbound;
+    private final ControlConfig controlConfig = new ControlConfig();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ControlService controlService;
+
+    @BeforeEach
+    void setUp() {
+        sessionDirectory = mock(ControlSessionDirectory.class);
+        lenient().when(sessionDirectory.getNodeId()).thenReturn("node-a");
+        sessionOutbound = new ControlSessionOutbound(controlConfig, meterRegistry);
+        controlService = new ControlService(new ObjectMapper(), sessionDirectory, sessionOutbound,
+                controlConfig, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        sessionOutbound.shutdown();
+    }
+
+    @Test
+    @DisplayName("MCP 응답은 sessionId가 같은 클라이언트로만 전달")
+    void relayMcpResponse_DeliversOnlyToMatchingSession() throws Exception {
+        WebSocketSession sessionA = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession sessionB = session("ws-2", "ws://localhost/control?sessionId=session-b");
+        controlService.registerSession(sessionA);
+        controlService.registerSession(sessionB);
+
+        controlService.relayMcpResponse("session-a", "{\"for\":\"a\"}");
+        controlService.relayMcpResponse("session-b", "{\"for\":\"b\"}");
+
+        verify(sessionA, timeout(1000)).sendMessage(new TextMessage("{\"for\":\"a\"}"));
+        verify(sessionB, timeout(1000)).sendMessage(new TextMessage("{\"for\":\"b\"}"));
+        verify(sessionA, times(1)).sendMessage(any());
+        verify(sessionB, times(1)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 sessionId이거나 대상을 특정할 수 없는 응답은 버림")
+    void relayMcpResponse_UnknownOrAmbiguous_IsDropped() throws Exception {
+        WebSocketSession sessionA = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession sessionB = session("ws-2", "ws://localhost/control");
+        controlService.registerSession(sessionA);
+        controlService.registerSession(sessionB);
+
+        controlService.relayMcpResponse("session-x", "{}");
+        controlService.relayMcpResponse(null, "{}");
+
+        verify(sessionA, never()).sendMessage(any());
+        verify(sessionB, never()).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("sessionId가 없는 응답은 연결된 세션이 하나뿐이면 그 세션으로 전달")
+    void relayMcpResponse_WithoutSessionId_SingleSession_IsDelivered() throws Exception {
+        WebSocketSession sessionA = session("ws-1", "ws://localhost/control");
+        controlService.registerSession(sessionA);
+
+        controlService.relayMcpResponse(null, "{}");
+        controlService.relayMcpResponse("ws-1", "{}");
+
+        verify(sessionA, timeout(1000).times(2)).sendMessage(new TextMessage("{}"));
+    }
+
+    @Test
+    @DisplayName("같은 사용자가 같은 sessionId로 재연결하면 이전 세션을 닫고, 이전 세션이 정리되어도 새 세션은 유지")
+    void unregisterSession_AfterReconnect_KeepsNewSession() throws Exception {
+        WebSocketSession previous = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession current = session("ws-2", "ws://localhost/control?sessionId=session-a");
+        when(previous.getPrincipal()).thenReturn(() -> "alice");
+        when(current.getPrincipal()).thenReturn(() -> "alice");
+        controlService.registerSession(previous);
+        assertTrue(controlService.registerSession(current));
+        verify(previous, timeout(1000)).close(any(CloseStatus.class));
+
+        controlService.unregisterSession(previous);
+        controlService.relayMcpResponse("session-a", "{}");
+
+        verify(current, timeout(1000)).sendMessage(new TextMessage("{}"));
+        verify(previous, never()).sendMessage(any());
+        assertEquals(1, controlService.getActiveSessionCount());
+    }
+
+    @Test
+    @DisplayName("다른 사용자나 익명 클라이언트가 열린 세션의 sessionId로 연결하면 거부")
+    void registerSession_SessionIdInUseByOtherUser_IsRejected() throws Exception {
+        WebSocketSession owner = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession intruder = session("ws-2", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession anonymous = session("ws-3", "ws://localhost/control?sessionId=session-a");
+        when(owner.getPrincipal()).thenReturn(() -> "alice");
+        when(intruder.getPrincipal()).thenReturn(() -> "mallory");
+        controlService.registerSession(owner);
+
+        assertFalse(controlService.registerSession(intruder));
+        assertFalse(controlService.registerSession(anonymous));
+        controlService.relayMcpResponse("session-a", "{}");
+
+        verify(owner, timeout(1000)).sendMessage(new TextMessage("{}"));
+        verify(intruder, timeout(1000)).close(CloseStatus.POLICY_VIOLATION.withReason("sessionId already in use"));
+        verify(anonymous, timeout(1000)).close(any(CloseStatus.class));
+        verify(owner, never()).close(any(CloseStatus.class));
+        assertEquals(1, controlService.getActiveSessionCount());
+        assertEquals(2.0, meterRegistry.counter("control.session.rejected", "reason", "session_id_in_use").count());
+
+        // 이전 세션이 닫힌 뒤에는 새로 연결할 수 있음
+        when(owner.isOpen()).thenReturn(false);
+        assertTrue(controlService.registerSession(anonymous));
+    }
+
+    @Test
+    @DisplayName("익명 클라이언트는 발급받은 재연결 토큰으로 끊긴 이전 세션이 남아 있어도 바로 다시 연결")
+    void registerSession_AnonymousWithReconnectToken_ReplacesHalfOpenSession() throws Exception {
+        WebSocketSession halfOpen = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        controlService.registerSession(halfOpen);
+        String token = controlService.getReconnectToken(halfOpen);
+        assertNotNull(token);
+
+        WebSocketSession wrongToken = session("ws-2", "ws://localhost/control?sessionId=session-a&reconnectToken=guess");
+        WebSocketSession reconnected = session("ws-3",
+                "ws://localhost/control?sessionId=session-a&reconnectToken=" + token);
+
+        assertFalse(controlService.registerSession(wrongToken));
+        assertTrue(controlService.registerSession(reconnected));
+
+        verify(halfOpen, timeout(1000)).close(any(CloseStatus.class));
+        assertEquals("session-a", controlService.getRoutingKey(reconnected));
+        assertNotEquals(token, controlService.getReconnectToken(reconnected));
+        assertEquals(1, controlService.getActiveSessionCount());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에 연결된 세션으로 보낼 메시지는 해당 인스턴스로 전달")
+    void relayMcpResponse_RemoteSession_IsForwardedToOwnerNode() throws Exception {
+        WebSocketSession local = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        controlService.registerSession(local);
+        when(sessionDirectory.ownerOf("session-b")).thenReturn("node-b");
+
+        controlService.relayMcpResponse("session-b", "{\"for\":\"b\"}");
+        controlService.relayMcpResponse("session-a", "{\"for\":\"a\"}");
+
+        verify(sessionDirectory).register("session-a");
+        verify(sessionDirectory).forward("node-b", "session-b", "{\"for\":\"b\"}", OverflowPolicy.CLOSE);
+        verify(sessionDirectory, never()).ownerOf("session-a");
+        verify(local, timeout(1000).times(1)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 가진 세션만 원격 세션으로 판단")
+    void isRemoteSession_OnlyForSessionsOwnedByOtherNode() {
+        WebSocketSession local = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        controlService.registerSession(local);
+        when(sessionDirectory.ownerOf("session-b")).thenReturn("node-b");
+        when(sessionDirectory.ownerOf("session-c")).thenReturn("node-a");
+
+        assertFalse(controlService.isRemoteSession("session-a"));
+        assertTrue(controlService.isRemoteSession("session-b"));
+        assertFalse(controlService.isRemoteSession("session-c"));
+        assertFalse(controlService.isRemoteSession("session-x"));
+        assertFalse(controlService.isRemoteSession(null));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 전달받은 명령은 로컬 세션으로 전송")
+    @SuppressWarnings("unchecked")
+    void forwardedDelivery_IsSentToLocalSession() throws Exception {
+        WebSocketSession local = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        controlService.registerSession(local);
+        controlService.initialize();
+
+        ArgumentCaptor<Consumer<ControlSessionDirectory.Delivery>> handler = ArgumentCaptor.forClass(Consumer.class);
+        verify(sessionDirectory).subscribe(handler.capture());
+        handler.getValue().accept(new ControlSessionDirectory.Delivery(
+                "session-a", "{\"type\":\"browser_command\"}", OverflowPolicy.CLOSE, 0L));
+
+        verify(local, timeout(1000)).sendMessage(new TextMessage("{\"type\":\"browser_command\"}"));
+    }
+
+    @Test
+    @DisplayName("세션이 끊기면 공유된 세션 위치도 삭제")
+    void unregisterSession_ReleasesDirectoryEntry() {
+        WebSocketSession local = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        controlService.registerSession(local);
+
+        controlService.unregisterSession(local);
+
+        verify(sessionDirectory).unregister("session-a");
+    }
+
+    @Test
+    @DisplayName("조용한 세션에는 ping을 보내고, idle 시간을 넘긴 세션은 닫고 제거")
+    void sweepSessions_PingsQuietAndEvictsIdleSessions() throws Exception {
+        WebSocketSession quiet = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession dead = session("ws-2", "ws://localhost/control?sessionId=session-b");
+        controlService.registerSession(quiet);
+        controlService.registerSession(dead);
+        long now = System.nanoTime();
+
+        controlService.sweepSessions(now + Duration.ofSeconds(30).toNanos());
+        verify(quiet, timeout(1000)).sendMessage(any(PingMessage.class));
+
+        // dead 세션만 pong 없이 idle 시간을 넘긴 상태로 만듦
+        idleFor(dead, Duration.ofSeconds(61));
+        controlService.sweepSessions(now + Duration.ofSeconds(30).toNanos());
+
+        verify(dead, timeout(1000)).close(argThat(status -> status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)));
+        verify(quiet, never()).close(any());
+        assertEquals(1, controlService.getActiveSessionCount());
+        assertEquals(1.0, meterRegistry.counter("control.session.evicted", "reason", "idle").count());
+        assertEquals(1, meterRegistry.get("control.session.lifetime").timer().count());
+    }
+
+    @Test
+    @DisplayName("닫힌 세션은 종료 이벤트가 없어도 점검 시 제거되고, 명령은 남은 최근 세션으로 전송")
+    void sweepSessions_RemovesClosedSessions() throws Exception {
+        WebSocketSession first = session("ws-1", "ws://localhost/control");
+        WebSocketSession second = session("ws-2", "ws://localhost/control");
+        controlService.registerSession(first);
+        controlService.registerSession(second);
+        when(second.isOpen()).thenReturn(false);
+
+        controlService.sweepSessions();
+        controlService.sendCommandToClient(Map.of("type", "browser_command"));
+
+        assertEquals(1, controlService.getActiveSessionCount());
+        assertEquals(1.0, meterRegistry.counter("control.session.evicted", "reason", "closed").count());
+        verify(first, timeout(1000)).sendMessage(new TextMessage("{\"type\":\"browser_command\"}"));
+    }
+
+    @Test
+    @DisplayName("활성 세션 수는 등록/해제 시점에 집계하고, 익명 세션은 사용자별로 색인하지 않음")
+    void activeSessionCount_TracksLifecycleAndUsers() {
+        WebSocketSession alice = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession aliceReconnected = session("ws-2", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession anonymous = session("ws-3", "ws://localhost/control");
+        when(alice.getPrincipal()).thenReturn(() -> "alice");
+        when(aliceReconnected.getPrincipal()).thenReturn(() -> "alice");
+        assertFalse(controlService.hasActiveSession());
+
+        controlService.registerSession(alice);
+        controlService.registerSession(anonymous);
+        controlService.registerSession(aliceReconnected);
+
+        assertTrue(controlService.hasActiveSession());
+        assertEquals(2, controlService.getActiveSessionCount());
+        assertEquals(1, controlService.getActiveSessionCount("alice"));
+        assertEquals(0, controlService.getActiveSessionCount("anonymous"));
+
+        controlService.unregisterSession(alice);
+        controlService.unregisterSession(alice);
+        assertEquals(2, controlService.getActiveSessionCount());
+
+        controlService.unregisterSession(aliceReconnected);
+        controlService.unregisterSession(anonymous);
+        assertEquals(0, controlService.getActiveSessionCount());
+        assertEquals(0, controlService.getActiveSessionCount("alice"));
+        assertFalse(controlService.hasActiveSession());
+    }
+
+    @Test
+    @DisplayName("사용자 대상 전송은 한 번 직렬화한 메시지를 그 사용자의 모든 세션에 공유")
+    void sendCommandToUser_SharesSingleMessageAcrossDevices() throws Exception {
+        WebSocketSession phone = session("ws-1", "ws://localhost/control?sessionId=phone");
+        WebSocketSession laptop = session("ws-2", "ws://localhost/control?sessionId=laptop");
+        WebSocketSession other = session("ws-3", "ws://localhost/control?sessionId=other");
+        when(phone.getPrincipal()).thenReturn(() -> "alice");
+        when(laptop.getPrincipal()).thenReturn(() -> "alice");
+        when(other.getPrincipal()).thenReturn(() -> "bob");
+        controlService.registerSession(phone);
+        controlService.registerSession(laptop);
+        controlService.registerSession(other);
+
+        int delivered = controlService.sendCommandToUser("alice", Map.of("type", "all_navigation_paths"));
+
+        assertEquals(2, delivered);
+        ArgumentCaptor<TextMessage> phoneMessage = ArgumentCaptor.forClass(TextMessage.class);
+        ArgumentCaptor<TextMessage> laptopMessage = ArgumentCaptor.forClass(TextMessage.class);
+        verify(phone, timeout(1000)).sendMessage(phoneMessage.capture());
+        verify(laptop, timeout(1000)).sendMessage(laptopMessage.capture());
+        assertSame(phoneMessage.getValue(), laptopMessage.getValue());
+        assertEquals("{\"type\":\"all_navigation_paths\"}", phoneMessage.getValue().getPayload());
+        verify(other, never()).sendMessage(any());
+        assertEquals(0, controlService.sendCommandToUser("carol", Map.of("type", "all_navigation_paths")));
+    }
+
+    @Test
+    @DisplayName("여러 세션 대상 전송은 한 대상이 실패해도 나머지 대상에게 전송")
+    void sendCommandToSessions_IsolatesFailingRecipient() throws Exception {
+        WebSocketSession healthy = session("ws-1", "ws://localhost/control?sessionId=session-a");
+        WebSocketSession broken = session("ws-2", "ws://localhost/control?sessionId=session-b");
+        controlService.registerSession(healthy);
+        controlService.registerSession(broken);
+        when(broken.isOpen()).thenThrow(new IllegalStateException("broken"));
+        when(sessionDirectory.ownerOf("session-c")).thenReturn("node-b");
+        when(sessionDirectory.forward(any(), any(), any(), any())).thenReturn(true);
+
+        int delivered = controlService.sendCommandToSessions(
+                List.of("session-b", "session-a", "session-c", "session-a", "session-x"),
+                Map.of("type", "browser_command"));
+
+        assertEquals(2, delivered);
+        verify(healthy, timeout(1000).times(1)).sendMessage(new TextMessage("{\"type\":\"browser_command\"}"));
+        verify(sessionDirectory).forward("node-b", "session-c", "{\"type\":\"browser_command\"}", OverflowPolicy.CLOSE);
+        verify(broken, never()).sendMessage(any());
+        assertEquals(2.0, meterRegistry.counter("control.fanout.recipients", "result", "delivered").count());
+        assertEquals(2.0, meterRegistry.counter("control.fanout.recipients", "result", "failed").count());
+    }
+
+    private static void idleFor(WebSocketSession session, Duration idle) {
+        session.getAttributes().values().stream()
+                .filter(AtomicLong.class::isInstance)
+                .map(AtomicLong.class::cast)
+                .forEach(lastActivity -> lastActivity.addAndGet(-idle.toNanos()));
+    }
+
+    private WebSocketSession session(String id, String uri) {
+        WebSocketSession session = mock(WebSocketSession.class);
+        lenient().when(session.getId()).thenReturn(id);
+        lenient().when(session.getUri()).thenReturn(URI.create(uri));
+        lenient().when(session.getAttributes()).thenReturn(new HashMap<>());
+        lenient().when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+}
@@ -0,0 +1,53 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.SharedMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrowserCommandEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BrowserCommandEncoder encoder = new BrowserCommandEncoder(objectMapper);
+
+    @Test
+    @DisplayName("URL이 들어간 명령은 ObjectMapper로 직렬화한 결과와 같은 JSON")
+    void navigate_MatchesObjectMapperOutput() throws Exception {
+        String url = "https://example.com/검색?q=\"a\\b\"&n=1";
+
+        SharedMessage message = encoder.navigate(url);
+
+        Map<String, Object> expected = Map.of(
+                "type", "browser_command",
+                "data", Map.of("type", "navigate", "url", url));
+        assertEquals(objectMapper.valueToTree(expected), objectMapper.readTree(message.message().getPayload()));
+        assertEquals(message.message().getPayload().getBytes(StandardCharsets.UTF_8).length, message.size());
+    }
+
+    @Test
+    @DisplayName("도구 명령은 action 형식으로 작성")
+    void actions_MatchObjectMapperOutput() throws Exception {
+        assertEquals(objectMapper.valueToTree(Map.of("action", "click", "selector", "#q")),
+                objectMapper.readTree(encoder.clickAction("#q").message().getPayload()));
+        assertEquals(objectMapper.valueToTree(Map.of("action", "navigate", "url", "https://example.com")),
+                objectMapper.readTree(encoder.navigateAction("https://example.com").message().getPayload()));
+        assertEquals("{\"action\":\"goBack\"}", encoder.goBackAction().message().getPayload());
+    }
+
+    @Test
+    @DisplayName("내용이 고정된 명령은 매번 같은 메시지를 재사용")
+    void constantCommands_AreCached() {
+        assertSame(encoder.goBack(), encoder.goBack());
+        assertSame(encoder.goForward(), encoder.goForward());
+        assertSame(encoder.goBackAction(), encoder.goBackAction());
+        assertEquals("{\"type\":\"browser_command\",\"data\":{\"type\":\"go_back\"}}",
+                encoder.goBack().message().getPayload());
+        assertEquals("{\"type\":\"browser_command\",\"data\":{\"type\":\"go_forward\"}}",
+                encoder.goForward().message().getPayload());
+    }
+}
@@ -0,0 +1,135 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrowserToolExecutorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BrowserToolExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        ControlConfig config = new ControlConfig();
+        config.getTools().getConcurrency().put("navigate", 2);
+        executor = new BrowserToolExecutor(config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("한 세션의 호출은 도착 순서대로 하나씩 실행")
+    void submit_SameSession_RunsInOrder() throws Exception {
+        List<Integer> order = new CopyOnWriteArrayList<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+
+        List<CompletableFuture<ControlDto.ToolResult>> results = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            int index = i;
+            results.add(executor.submit("ws-1", "click", () -> {
+                if (running.incrementAndGet() > 1) {
+                    overlaps.incrementAndGet();
+                }
+                sleep(2);
+                order.add(index);
+                running.decrementAndGet();
+                return result(false);
+            }));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        assertEquals(0, overlaps.get());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i, order.get(i));
+        }
+        assertEquals(20, meterRegistry.get("control.tool.execution")
+                .tags("tool", "click", "result", "success").timer().count());
+    }
+
+    @Test
+    @DisplayName("도구별 동시 실행 수를 넘지 않음")
+    void submit_ManySessions_RespectsToolConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<ControlDto.ToolResult>> results = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            results.add(executor.submit("ws-" + i, "navigate", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                sleep(20);
+                running.decrementAndGet();
+                return result(false);
+            }));
+        }
+
+        CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        assertTrue(maxRunning.get() <= 2, "동시 실행 수: " + maxRunning.get());
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("세션이 닫히면 실행 중인 호출은 인터럽트되고 대기 중인 호출은 취소됨")
+    void cancel_InterruptsRunningAndCancelsPending() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        AtomicInteger laterRuns = new AtomicInteger();
+
+        CompletableFuture<ControlDto.ToolResult> running = executor.submit("ws-1", "click", () -> {
+            started.countDown();
+            try {
+                Thread.sleep(10_000);
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return result(false);
+        });
+        CompletableFuture<ControlDto.ToolResult> pending = executor.submit("ws-1", "click", () -> {
+            laterRuns.incrementAndGet();
+            return result(false);
+        });
+
+        assertTrue(started.await(2, TimeUnit.SECONDS));
+        executor.cancel("ws-1");
+
+        assertTrue(interrupted.await(2, TimeUnit.SECONDS));
+        assertThrows(CancellationException.class, running::join);
+        assertThrows(CancellationException.class, pending::join);
+        assertEquals(0, laterRuns.get());
+
+        // 같은 세션 ID로 다시 요청하면 정상 실행
+        assertFalse(executor.submit("ws-1", "click", () -> result(false))
+                .get(2, TimeUnit.SECONDS).isError());
+    }
+
+    private static ControlDto.ToolResult result(boolean error) {
+        return new ControlDto.ToolResult(List.of(new ControlDto.TextContent("ok")), error);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
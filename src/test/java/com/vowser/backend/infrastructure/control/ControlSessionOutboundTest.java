@@ -0,0 +1,163 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ControlSessionOutboundTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<String> delivered = new CopyOnWriteArrayList<>();
+    private final CountDownLatch gate = new CountDownLatch(1);
+
+    private ControlSessionOutbound outbound;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ControlConfig config = new ControlConfig();
+        config.getOutbound().setBufferSizeLimit(16);
+        config.getOutbound().setSendTimeLimit(Duration.ofMillis(200));
+        outbound = new ControlSessionOutbound(config, meterRegistry);
+
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("ws-1");
+        when(session.isOpen()).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        gate.countDown();
+        outbound.shutdown();
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 보내도 세션에는 한 번에 하나씩 순서대로 전송")
+    void send_ConcurrentCallers_WritesOneAtATime() throws Exception {
+        ControlConfig config = new ControlConfig();
+        ControlSessionOutbound unbounded = new ControlSessionOutbound(config, meterRegistry);
+        AtomicInteger writing = new AtomicInteger();
+        AtomicInteger overlaps = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (writing.incrementAndGet() > 1) {
+                overlaps.incrementAndGet();
+            }
+            delivered.add(((TextMessage) invocation.getArgument(0)).getPayload());
+            writing.decrementAndGet();
+            return null;
+        }).when(session).sendMessage(any());
+
+        ExecutorService callers = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 0; i < 200; i++) {
+                String payload = "{\"n\":" + i + "}";
+                callers.execute(() -> unbounded.send(session, payload, OverflowPolicy.CLOSE));
+            }
+            callers.shutdown();
+            assertTrue(callers.awaitTermination(5, TimeUnit.SECONDS));
+
+            verify(session, timeout(5000).times(200)).sendMessage(any());
+            assertEquals(0, overlaps.get());
+            assertEquals(0, unbounded.pendingCount(session));
+        } finally {
+            unbounded.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 오래된 진행 상황 메시지부터 버림")
+    void send_ProgressOverflow_DropsOldest() throws Exception {
+        blockWrites();
+
+        assertTrue(outbound.send(session, "{\"m\":0}", OverflowPolicy.CLOSE));
+        verify(session, timeout(1000)).sendMessage(any());
+
+        assertTrue(outbound.send(session, "{\"p\":1}", OverflowPolicy.DROP_OLDEST));
+        assertTrue(outbound.send(session, "{\"p\":2}", OverflowPolicy.DROP_OLDEST));
+        assertTrue(outbound.send(session, "{\"p\":3}", OverflowPolicy.DROP_OLDEST));
+        assertEquals(2, outbound.pendingCount(session));
+
+        gate.countDown();
+        verify(session, timeout(1000).times(3)).sendMessage(any());
+        assertEquals(List.of("{\"m\":0}", "{\"p\":2}", "{\"p\":3}"), delivered);
+        assertEquals(1.0, meterRegistry.counter("control.outbound.dropped").count());
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    @DisplayName("명령을 넣을 버퍼가 없으면 세션을 닫음")
+    void send_CommandOverflow_ClosesSession() throws Exception {
+        blockWrites();
+
+        assertTrue(outbound.send(session, "{\"c\":0}", OverflowPolicy.CLOSE));
+        verify(session, timeout(1000)).sendMessage(any());
+        assertTrue(outbound.send(session, "{\"c\":1}", OverflowPolicy.CLOSE));
+        assertTrue(outbound.send(session, "{\"c\":2}", OverflowPolicy.CLOSE));
+
+        assertFalse(outbound.send(session, "{\"c\":3}", OverflowPolicy.CLOSE));
+
+        verify(session, timeout(1000)).close(argThat(status -> status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)));
+        assertEquals(0, outbound.pendingCount(session));
+        assertEquals(1.0, meterRegistry.counter("control.outbound.closed", "reason", "buffer").count());
+    }
+
+    @Test
+    @DisplayName("전송이 제한 시간을 넘기면 다음 메시지에서 세션을 닫음")
+    void send_SlowWrite_ClosesSession() throws Exception {
+        blockWrites();
+
+        assertTrue(outbound.send(session, "{\"c\":0}", OverflowPolicy.CLOSE));
+        verify(session, timeout(1000)).sendMessage(any());
+        Thread.sleep(300);
+
+        assertFalse(outbound.send(session, "{\"p\":1}", OverflowPolicy.DROP_OLDEST));
+
+        verify(session, timeout(1000)).close(argThat(status -> status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)));
+        assertEquals(1.0, meterRegistry.counter("control.outbound.closed", "reason", "send_time").count());
+    }
+
+    @Test
+    @DisplayName("더 보낼 메시지가 없어도 전송이 제한 시간을 넘긴 세션은 주기 점검에서 닫음")
+    void sweepStuckWriters_ClosesSessionWithoutNewMessages() throws Exception {
+        blockWrites();
+
+        assertTrue(outbound.send(session, "{\"c\":0}", OverflowPolicy.CLOSE));
+        verify(session, timeout(1000)).sendMessage(any());
+
+        outbound.sweepStuckWriters(System.nanoTime());
+        verify(session, never()).close(any());
+
+        outbound.sweepStuckWriters(System.nanoTime() + Duration.ofMillis(300).toNanos());
+
+        verify(session, timeout(1000)).close(argThat(status -> status.equalsCode(CloseStatus.SESSION_NOT_RELIABLE)));
+        assertEquals(1.0, meterRegistry.counter("control.outbound.closed", "reason", "send_time").count());
+        assertEquals(0, outbound.pendingCount(session));
+    }
+
+    private void blockWrites() throws Exception {
+        doAnswer(invocation -> {
+            gate.await(5, TimeUnit.SECONDS);
+            delivered.add(((TextMessage) invocation.getArgument(0)).getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+    }
+}
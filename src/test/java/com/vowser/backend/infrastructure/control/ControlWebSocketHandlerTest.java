@@ -0,0 +1,112 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.application.service.ContributionOutboxService;
+import com.vowser.backend.application.service.ControlService;
+import com.vowser.backend.common.constants.ErrorMessages;
+import com.vowser.backend.infrastructure.control.ControlSessionOutbound.OverflowPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ControlWebSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ContributionOutboxService contributionOutboxService;
+    private ControlSessionOutbound sessionOutbound;
+    private ControlWebSocketHandler handler;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        contributionOutboxService = mock(ContributionOutboxService.class);
+        when(contributionOutboxService.enqueueAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
+        sessionOutbound = mock(ControlSessionOutbound.class);
+        handler = new ControlWebSocketHandler(mock(ControlService.class), new ToolRegistry(List.of()),
+                contributionOutboxService, sessionOutbound, mock(BrowserToolExecutor.class),
+                mock(NavigationPathExecutor.class), objectMapper);
+
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("ws-1");
+    }
+
+    @Test
+    @DisplayName("type이 지정된 기여모드 메시지는 DTO로 바로 바인딩되어 outbox에 저장")
+    void contributionMessage_IsBoundOnceAndEnqueued() throws Exception {
+        handler.handleTextMessage(session, new TextMessage("""
+                {"type":"save_contribution_path","sessionId":"c-1","task":"검색",
+                 "steps":[{"url":"https://example.com","action":"click","selector":"#q"}],
+                 "isPartial":true,"isComplete":false,"totalSteps":3}
+                """));
+
+        ArgumentCaptor<ControlDto.ContributionMessage> captor = ArgumentCaptor.forClass(ControlDto.ContributionMessage.class);
+        verify(contributionOutboxService).enqueueAsync(captor.capture());
+        ControlDto.ContributionMessage message = captor.getValue();
+        assertEquals("c-1", message.getSessionId());
+        assertEquals("#q", message.getSteps().get(0).getSelector());
+        assertTrue(message.isPartial());
+        assertFalse(message.isComplete());
+        assertEquals(3, message.getTotalSteps());
+
+        String stored = objectMapper.writeValueAsString(message);
+        assertTrue(stored.contains("\"partial\":true"));
+        assertFalse(stored.contains("isPartial"));
+
+        verify(sessionOutbound).send(eq(session), contains("\"success\":true"), eq(OverflowPolicy.CLOSE));
+    }
+
+    @Test
+    @DisplayName("type 없는 기존 형식의 기여모드 메시지도 기여모드로 처리")
+    void legacyContributionMessage_IsEnqueued() throws Exception {
+        handler.handleTextMessage(session, new TextMessage(
+                "{\"sessionId\":\"c-2\",\"task\":\"검색\",\"steps\":[]}"));
+
+        verify(contributionOutboxService).enqueueAsync(argThat(message ->
+                "c-2".equals(message.getSessionId()) && "save_contribution_path".equals(message.getType())));
+    }
+
+    @Test
+    @DisplayName("type 필드가 중첩 값 뒤에 와도 한 번 읽은 토큰으로 그대로 바인딩")
+    void typeAfterNestedValues_IsBoundFromBufferedTokens() throws Exception {
+        handler.handleTextMessage(session, new TextMessage("""
+                {"sessionId":"c-3","steps":[{"url":"https://example.com","htmlAttributes":{"type":"submit"}}],
+                 "task":"로그인","type":"save_contribution_path"}
+                """));
+
+        verify(contributionOutboxService).enqueueAsync(argThat(message ->
+                "c-3".equals(message.getSessionId())
+                        && "로그인".equals(message.getTask())
+                        && "submit".equals(message.getSteps().get(0).getHtmlAttributes().get("type"))));
+    }
+
+    @Test
+    @DisplayName("툴 실행 요청은 CallToolRequest로 처리")
+    void toolRequest_IsDispatchedToToolHandler() throws Exception {
+        handler.handleTextMessage(session, new TextMessage(
+                "{\"toolName\":\"unknown\",\"args\":{\"url\":\"https://example.com\"}}"));
+
+        verify(sessionOutbound).send(eq(session), contains(ErrorMessages.Tool.TOOL_NOT_FOUND + "unknown"),
+                eq(OverflowPolicy.CLOSE));
+        verifyNoInteractions(contributionOutboxService);
+    }
+
+    @Test
+    @DisplayName("잘못된 JSON은 형식 오류로 응답")
+    void invalidJson_SendsFormatError() throws Exception {
+        handler.handleTextMessage(session, new TextMessage("{\"toolName\":"));
+
+        verify(sessionOutbound).send(eq(session), contains(ErrorMessages.WebSocket.INVALID_JSON_FORMAT),
+                eq(OverflowPolicy.CLOSE));
+    }
+}
@@ -0,0 +1,149 @@
+package com.vowser.backend.infrastructure.control;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.api.dto.NavigationDto;
+import com.vowser.backend.infrastructure.config.ControlConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class NavigationPathExecutorTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ControlConfig controlConfig = new ControlConfig();
+    private final List<JsonNode> sent = new CopyOnWriteArrayList<>();
+
+    private NavigationPathExecutor executor;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("ws-1");
+        when(session.isOpen()).thenReturn(true);
+
+        ControlSessionOutbound outbound = mock(ControlSessionOutbound.class);
+        when(outbound.send(eq(session), anyString(), any())).thenAnswer(invocation -> {
+            sent.add(objectMapper.readTree(invocation.getArgument(1, String.class)));
+            return true;
+        });
+        executor = new NavigationPathExecutor(controlConfig, outbound, objectMapper, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("확인 응답을 기다리는 동안 다음 단계를 미리 보내고, 페이지가 바뀌는 단계 뒤에서는 기다림")
+    void start_PipelinesUntilBarrierStep() {
+        NavigationPathExecutor.PathExecution execution = executor.start(session,
+                List.of(step("input"), step("input"), step("navigate"), step("click")));
+        String id = execution.executionId();
+        assertEquals(List.of(0, 1), sentStepIndexes());
+
+        executor.acknowledge(session, ack(id, 0, 1, true));
+        assertEquals(List.of(0, 1, 2), sentStepIndexes());
+
+        // navigate 단계의 확인 응답 전에는 창에 여유가 있어도 보내지 않음
+        executor.acknowledge(session, ack(id, 1, 1, true));
+        assertEquals(List.of(0, 1, 2), sentStepIndexes());
+
+        executor.acknowledge(session, ack(id, 2, 1, true));
+        executor.acknowledge(session, ack(id, 3, 1, true));
+        assertEquals(List.of(0, 1, 2, 3), sentStepIndexes());
+
+        ControlDto.NavigationExecutionResult result = execution.completion().join();
+        assertTrue(result.isSuccess());
+        assertEquals(4, result.getCompletedSteps());
+        assertEquals(4, result.getStepLatenciesMillis().size());
+        assertEquals("navigation_execution_result", sent.get(sent.size() - 1).get("type").asText());
+        assertEquals(1, meterRegistry.get("control.navigation.step")
+                .tags("action", "navigate", "result", "success").timer().count());
+        assertEquals(0, executor.getActiveExecutionCount());
+    }
+
+    @Test
+    @DisplayName("실패한 단계부터 다시 보내고 지난 시도의 응답은 무시하며, 재시도를 넘기면 실패로 끝남")
+    void acknowledge_Failure_RetriesFromFailedStep() {
+        controlConfig.getNavigation().setMaxRetries(1);
+        NavigationPathExecutor.PathExecution execution = executor.start(session,
+                List.of(step("input"), step("input"), step("click")));
+        String id = execution.executionId();
+
+        executor.acknowledge(session, ack(id, 0, 1, false));
+        assertEquals(List.of(0, 1, 0, 1), sentStepIndexes());
+        assertEquals(2, sent.get(2).get("attempt").asInt());
+
+        // 재전송 전에 보냈던 단계의 응답은 무시
+        executor.acknowledge(session, ack(id, 1, 1, true));
+        assertEquals(List.of(0, 1, 0, 1), sentStepIndexes());
+        executor.acknowledge(session, ack(id, 0, 2, true));
+        assertEquals(List.of(0, 1, 0, 1, 2), sentStepIndexes());
+
+        executor.acknowledge(session, ack(id, 1, 2, false));
+        executor.acknowledge(session, ack(id, 1, 3, false));
+
+        ControlDto.NavigationExecutionResult result = execution.completion().join();
+        assertFalse(result.isSuccess());
+        assertEquals(1, result.getCompletedSteps());
+        assertEquals(1, result.getFailedStepIndex());
+    }
+
+    @Test
+    @DisplayName("확인 응답이 제한 시간을 넘기면 재전송하고, 재시도가 없으면 실패로 끝남")
+    void sweepTimeouts_ResendsThenFails() {
+        controlConfig.getNavigation().setMaxRetries(1);
+        controlConfig.getNavigation().setAckTimeout(Duration.ofSeconds(30));
+        NavigationPathExecutor.PathExecution execution = executor.start(session, List.of(step("navigate")));
+        long now = System.nanoTime();
+
+        executor.sweepTimeouts(now + Duration.ofSeconds(10).toNanos());
+        assertEquals(List.of(0), sentStepIndexes());
+
+        executor.sweepTimeouts(now + Duration.ofSeconds(31).toNanos());
+        assertEquals(List.of(0, 0), sentStepIndexes());
+
+        executor.sweepTimeouts(now + Duration.ofSeconds(62).toNanos());
+        assertFalse(execution.completion().join().isSuccess());
+        assertEquals(2, meterRegistry.get("control.navigation.step")
+                .tags("action", "navigate", "result", "timeout").timer().count());
+    }
+
+    @Test
+    @DisplayName("세션이 닫히면 진행 중인 실행을 중단")
+    void cancel_StopsExecutionsOfSession() {
+        NavigationPathExecutor.PathExecution execution = executor.start(session, List.of(step("navigate")));
+        when(session.isOpen()).thenReturn(false);
+
+        executor.cancel(session);
+
+        assertFalse(execution.completion().join().isSuccess());
+        assertEquals(0, executor.getActiveExecutionCount());
+        assertEquals(List.of(0), sentStepIndexes());
+    }
+
+    private List<Integer> sentStepIndexes() {
+        return sent.stream()
+                .filter(message -> "navigation_step".equals(message.get("type").asText()))
+                .map(message -> message.get("stepIndex").asInt())
+                .toList();
+    }
+
+    private static NavigationDto.NavigationStep step(String action) {
+        return new NavigationDto.NavigationStep("https://example.com", "단계", action, "#target", null);
+    }
+
+    private static ControlDto.NavigationStepAck ack(String executionId, int stepIndex, int attempt, boolean success) {
+        return new ControlDto.NavigationStepAck("navigation_step_ack", executionId, stepIndex, attempt, success,
+                success ? null : "요소를 찾을 수 없음");
+    }
+}
@@ -0,0 +1,85 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class McpAdmissionQueueTest {
+
+    private final McpConnection connection = mock(McpConnection.class);
+    private final AtomicInteger freeSlots = new AtomicInteger();
+    private final List<McpPriority> dispatched = new CopyOnWriteArrayList<>();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("슬롯이 나면 가중치가 큰 차선부터 배정하되 작은 차선도 굶기지 않음")
+    void drain_AssignsLanesByWeight() {
+        McpAdmissionQueue queue = create(Map.of(McpPriority.INTERACTIVE, 3, McpPriority.ADMIN, 1), priority -> true);
+        for (int i = 0; i < 4; i++) {
+            queue.submit(request(McpPriority.ADMIN));
+        }
+        for (int i = 0; i < 6; i++) {
+            queue.submit(request(McpPriority.INTERACTIVE));
+        }
+
+        freeSlots.set(8);
+        queue.drain();
+
+        assertEquals(List.of(
+                McpPriority.INTERACTIVE, McpPriority.INTERACTIVE, McpPriority.ADMIN, McpPriority.INTERACTIVE,
+                McpPriority.INTERACTIVE, McpPriority.INTERACTIVE, McpPriority.ADMIN, McpPriority.INTERACTIVE
+        ), dispatched);
+        assertEquals(2, queue.queued());
+    }
+
+    @Test
+    @DisplayName("관리 요청이 슬롯을 얻지 못해도 뒤에 온 INTERACTIVE 요청은 바로 전송")
+    void submit_BlockedAdminLane_DoesNotDelayInteractive() {
+        freeSlots.set(1);
+        McpAdmissionQueue queue = create(Map.of(), priority -> priority == McpPriority.INTERACTIVE);
+
+        queue.submit(request(McpPriority.ADMIN));
+        queue.submit(request(McpPriority.INTERACTIVE));
+
+        assertEquals(List.of(McpPriority.INTERACTIVE), dispatched);
+        assertEquals(1, queue.queued());
+        assertEquals(1, meterRegistry.get("mcp.admission.queued").tag("lane", "admin").gauge().value());
+    }
+
+    @Test
+    @DisplayName("차선별로 처리 슬롯을 기다린 시간을 기록")
+    void drain_RecordsWaitTimePerLane() {
+        McpAdmissionQueue queue = create(Map.of(), priority -> true);
+        queue.submit(request(McpPriority.BACKGROUND));
+        queue.submit(request(McpPriority.BACKGROUND));
+
+        freeSlots.set(2);
+        queue.drain();
+
+        assertEquals(2, meterRegistry.get("mcp.admission.wait").tag("lane", "background").timer().count());
+        assertEquals(0, meterRegistry.get("mcp.admission.wait").tag("lane", "interactive").timer().count());
+    }
+
+    private McpAdmissionQueue create(Map<McpPriority, Integer> weights,
+                                     Predicate<McpPriority> slotPolicy) {
+        return new McpAdmissionQueue(16, weights, priority -> {
+            if (!slotPolicy.test(priority) || freeSlots.getAndUpdate(n -> Math.max(0, n - 1)) == 0) {
+                return null;
+            }
+            return connection;
+        }, (conn, request) -> dispatched.add(request.getPriority()), meterRegistry);
+    }
+
+    private static McpRequest request(McpPriority priority) {
+        return new McpRequest("id", "type", priority, null);
+    }
+}
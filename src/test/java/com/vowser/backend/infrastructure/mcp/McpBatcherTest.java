@@ -0,0 +1,80 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpBatcherTest {
+
+    private final List<List<String>> batches = new CopyOnWriteArrayList<>();
+    private McpBatcher<String, String> batcher;
+
+    @AfterEach
+    void tearDown() {
+        if (batcher != null) {
+            batcher.close();
+        }
+    }
+
+    @Test
+    @DisplayName("최대 크기만큼 모이면 기다리지 않고 한 배치로 전송하고 결과를 순서대로 나눠줌")
+    void submit_FullBatch_FlushesImmediately() throws Exception {
+        batcher = create(3, Duration.ofSeconds(10), items -> CompletableFuture.completedFuture(
+                items.stream().map(String::toUpperCase).toList()));
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+        CompletableFuture<String> c = batcher.submit("c");
+
+        assertEquals("A", a.get(1, TimeUnit.SECONDS));
+        assertEquals("B", b.get(1, TimeUnit.SECONDS));
+        assertEquals("C", c.get(1, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("a", "b", "c")), batches);
+    }
+
+    @Test
+    @DisplayName("최대 크기에 못 미쳐도 대기 시간이 지나면 모인 항목을 전송")
+    void submit_PartialBatch_FlushesAfterDelay() throws Exception {
+        batcher = create(10, Duration.ofMillis(30), items -> CompletableFuture.completedFuture(items));
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        assertEquals("a", a.get(2, TimeUnit.SECONDS));
+        assertEquals("b", b.get(2, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of("a", "b")), batches);
+    }
+
+    @Test
+    @DisplayName("배치 전송이 실패하면 묶인 모든 호출자에게 예외를 전달")
+    void submit_FailedBatch_FailsEveryCaller() {
+        batcher = create(2, Duration.ofSeconds(10),
+                items -> CompletableFuture.failedFuture(new IllegalStateException("boom")));
+
+        CompletableFuture<String> a = batcher.submit("a");
+        CompletableFuture<String> b = batcher.submit("b");
+
+        ExecutionException error = assertThrows(ExecutionException.class, () -> a.get(1, TimeUnit.SECONDS));
+        assertEquals("boom", error.getCause().getMessage());
+        assertThrows(ExecutionException.class, () -> b.get(1, TimeUnit.SECONDS));
+    }
+
+    private McpBatcher<String, String> create(int maxSize, Duration maxDelay,
+                                              Function<List<String>, CompletableFuture<List<String>>> flusher) {
+        return new McpBatcher<>("test", maxSize, maxDelay, items -> {
+            batches.add(List.copyOf(items));
+            return flusher.apply(items);
+        }, new SimpleMeterRegistry());
+    }
+}
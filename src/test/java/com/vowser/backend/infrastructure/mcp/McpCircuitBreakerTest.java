@@ -0,0 +1,95 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.infrastructure.config.McpConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpCircuitBreakerTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private McpCircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        McpConfig.CircuitBreaker config = new McpConfig.CircuitBreaker();
+        config.setSlidingWindowSize(4);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(0.5);
+        config.setOpenDuration(Duration.ofSeconds(10));
+        config.setHalfOpenProbes(2);
+        breaker = new McpCircuitBreaker(config, new SimpleMeterRegistry(), now::get);
+    }
+
+    @Test
+    @DisplayName("최근 요청의 실패율이 기준을 넘으면 열리고 요청을 즉시 거절")
+    void failures_OpenCircuit() {
+        breaker.onSuccess();
+        breaker.onSuccess();
+        breaker.onFailure();
+        assertEquals(McpCircuitBreaker.State.CLOSED, breaker.state());
+
+        breaker.onFailure();
+
+        assertEquals(McpCircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(Duration.ofSeconds(10), breaker.remainingOpen());
+    }
+
+    @Test
+    @DisplayName("대기 시간이 지나면 제한된 시험 요청만 통과시키고 모두 성공하면 닫힘")
+    void halfOpen_ProbesSucceed_Closes() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(McpCircuitBreaker.State.HALF_OPEN, breaker.state());
+
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertEquals(McpCircuitBreaker.State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("시험 요청이 실패하면 다시 열림")
+    void halfOpen_ProbeFails_Reopens() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onFailure();
+
+        assertEquals(McpCircuitBreaker.State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("서버 상태와 무관하게 끝난 시험 요청은 자리를 돌려줌")
+    void halfOpen_IgnoredProbe_ReleasesSlot() {
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertTrue(breaker.tryAcquire());
+        assertTrue(breaker.tryAcquire());
+
+        breaker.onIgnored();
+
+        assertTrue(breaker.tryAcquire());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onFailure();
+        }
+        assertEquals(McpCircuitBreaker.State.OPEN, breaker.state());
+    }
+}
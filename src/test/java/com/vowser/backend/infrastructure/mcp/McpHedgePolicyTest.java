@@ -0,0 +1,49 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.infrastructure.config.McpConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpHedgePolicyTest {
+
+    @Test
+    @DisplayName("표본이 모이면 헤지 대기 시간이 최근 응답 시간의 p95를 따라감")
+    void hedgeDelay_FollowsObservedPercentile() {
+        McpConfig.Hedge config = new McpConfig.Hedge();
+        config.setInitialDelay(Duration.ofMillis(300));
+        config.setSampleSize(100);
+        McpHedgePolicy policy = new McpHedgePolicy(config);
+        assertEquals(Duration.ofMillis(300), policy.hedgeDelay());
+
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency(TimeUnit.MILLISECONDS.toNanos(i));
+        }
+
+        assertEquals(Duration.ofMillis(95), policy.hedgeDelay());
+    }
+
+    @Test
+    @DisplayName("헤지 예산은 요청 수 대비 비율만큼만 적립됨")
+    void tryHedge_LimitedByBudget() {
+        McpConfig.Hedge config = new McpConfig.Hedge();
+        config.setMaxRatio(0.1);
+        config.setBurst(1);
+        McpHedgePolicy policy = new McpHedgePolicy(config);
+
+        assertTrue(policy.tryHedge());
+        assertFalse(policy.tryHedge());
+
+        for (int i = 0; i < 9; i++) {
+            policy.onRequest();
+        }
+        assertFalse(policy.tryHedge());
+
+        policy.onRequest();
+        assertTrue(policy.tryHedge());
+    }
+}
@@ -0,0 +1,76 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vowser.backend.api.dto.mcp.PathSubmission;
+import com.vowser.backend.api.dto.mcp.StepData;
+import okio.ByteString;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpMessageCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final McpMessageCodec codec = new McpMessageCodec(objectMapper);
+
+    @Test
+    @DisplayName("CBOR 프레임을 JSON으로 변환하면 원래 메시지와 같음")
+    void decodeBinary_RoundTripsToSameJson() throws Exception {
+        Map<String, Object> message = envelope("save_new_path", samplePath(5));
+
+        String json = codec.encodeText(message);
+        String decoded = codec.decodeBinary(codec.encodeBinary(message)).utf8();
+
+        assertEquals(objectMapper.readTree(json), objectMapper.readTree(decoded));
+    }
+
+    @Test
+    @DisplayName("경로 저장 메시지는 CBOR가 JSON보다 작음")
+    void encodeBinary_SavePathIsSmallerThanJson() throws Exception {
+        Map<String, Object> message = envelope("save_new_path", samplePath(20));
+
+        int jsonBytes = codec.encodeText(message).getBytes(StandardCharsets.UTF_8).length;
+        ByteString cbor = codec.encodeBinary(message);
+
+        assertTrue(cbor.size() < jsonBytes, "json=" + jsonBytes + ", cbor=" + cbor.size());
+    }
+
+    private Map<String, Object> envelope(String type, Object data) {
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("type", type);
+        message.put("requestId", "42");
+        message.put("data", data);
+        return message;
+    }
+
+    private PathSubmission samplePath(int stepCount) {
+        List<StepData> steps = new ArrayList<>();
+        for (int i = 0; i < stepCount; i++) {
+            steps.add(StepData.builder()
+                    .url("https://www.youtube.com/results?search_query=" + i)
+                    .domain("youtube.com")
+                    .selectors(List.of("#search-form > input#search", "ytd-searchbox input"))
+                    .action(i % 2 == 0 ? "click" : "input")
+                    .isInput(i % 2 != 0)
+                    .shouldWait(false)
+                    .maxWaitTime(3000)
+                    .description("검색창에 음악 입력")
+                    .textLabels(List.of("검색", "Search"))
+                    .successRate(0.95)
+                    .build());
+        }
+        return PathSubmission.builder()
+                .sessionId("session-1")
+                .taskIntent("유튜브에서 음악 찾기")
+                .domain("youtube.com")
+                .steps(steps)
+                .build();
+    }
+}
@@ -0,0 +1,43 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpReconnectPolicyTest {
+
+    @Test
+    @DisplayName("연속 실패 횟수에 따라 대기 시간이 지수적으로 늘어나고 상한에서 멈춤")
+    void delayFor_GrowsExponentiallyUpToMax() {
+        McpReconnectPolicy policy = new McpReconnectPolicy(
+                Duration.ofMillis(100), Duration.ofSeconds(1), 2.0, 0.0);
+
+        assertEquals(Duration.ofMillis(100), policy.delayFor(0));
+        assertEquals(Duration.ofMillis(200), policy.delayFor(1));
+        assertEquals(Duration.ofMillis(800), policy.delayFor(3));
+        assertEquals(Duration.ofSeconds(1), policy.delayFor(4));
+        assertEquals(Duration.ofSeconds(1), policy.delayFor(100));
+    }
+
+    @Test
+    @DisplayName("jitter 비율 범위 안에서 대기 시간이 흩어짐")
+    void delayFor_AppliesJitterWithinBounds() {
+        McpReconnectPolicy policy = new McpReconnectPolicy(
+                Duration.ofMillis(1000), Duration.ofSeconds(30), 2.0, 0.2);
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < 1000; i++) {
+            long delay = policy.delayFor(0).toMillis();
+            min = Math.min(min, delay);
+            max = Math.max(max, delay);
+        }
+
+        assertTrue(min >= 800, "min=" + min);
+        assertTrue(max <= 1200, "max=" + max);
+        assertTrue(max - min > 100, "jitter가 적용되지 않음");
+    }
+}
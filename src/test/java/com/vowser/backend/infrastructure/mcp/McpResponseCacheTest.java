@@ -0,0 +1,167 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.vowser.backend.infrastructure.config.McpConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okio.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpResponseCacheTest {
+
+    private static final String TYPE = "find_popular_paths";
+    private static final String SWR_TYPE = "visualize_paths";
+    private static final String SHORT_SWR_TYPE = "graph_stats";
+    private static final ByteString SUCCESS = ByteString.encodeUtf8("{\"status\":\"success\"}");
+
+    private McpResponseCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getCache().getTtl().put(TYPE, Duration.ofMinutes(5));
+        mcpConfig.getCache().getTtl().put(SWR_TYPE, Duration.ofHours(1));
+        mcpConfig.getCache().getStaleAfter().put(SWR_TYPE, Duration.ofMillis(50));
+        mcpConfig.getCache().getTtl().put(SHORT_SWR_TYPE, Duration.ofMillis(500));
+        mcpConfig.getCache().getStaleAfter().put(SHORT_SWR_TYPE, Duration.ofHours(1));
+        cache = new McpResponseCache(mcpConfig, new SimpleMeterRegistry(), null);
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 키의 반복 조회는 MCP를 한 번만 호출")
+    void get_SameKey_LoadsOnce() throws Exception {
+        assertEquals(SUCCESS, load("youtube.com", "10", SUCCESS));
+        assertEquals(SUCCESS, load("YouTube.com", "10", SUCCESS));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("도메인 무효화 시 해당 도메인과 전체 대상 항목만 제거")
+    void invalidateDomain_EvictsDomainAndGlobalEntries() throws Exception {
+        load("youtube.com", "10", SUCCESS);
+        load("naver.com", "10", SUCCESS);
+        load(null, "10", SUCCESS);
+
+        cache.invalidateDomain("www.youtube.com");
+
+        load("youtube.com", "10", SUCCESS);
+        load("naver.com", "10", SUCCESS);
+        load(null, "10", SUCCESS);
+        assertEquals(5, loads.get());
+    }
+
+    @Test
+    @DisplayName("오류 응답은 캐시하지 않음")
+    void get_ErrorResponse_IsNotCached() throws Exception {
+        ByteString error = ByteString.encodeUtf8("{\"status\":\"error\"}");
+
+        load("youtube.com", "10", error);
+        load("youtube.com", "10", error);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    @DisplayName("오래된 스냅샷은 즉시 반환하고 백그라운드에서 한 번만 갱신")
+    void get_StaleSnapshot_ServedWhileRefreshing() throws Exception {
+        AtomicInteger version = new AtomicInteger();
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CompletableFuture<ByteString> refreshResult = new CompletableFuture<>();
+        Supplier<CompletableFuture<ByteString>> loader = () -> {
+            if (version.incrementAndGet() == 1) {
+                return CompletableFuture.completedFuture(ByteString.encodeUtf8("{\"status\":\"success\",\"v\":1}"));
+            }
+            refreshStarted.countDown();
+            return refreshResult;
+        };
+
+        assertTrue(visualize(loader).contains("\"v\":1"));
+        Thread.sleep(60);
+
+        // 갱신이 끝나지 않아도 기존 스냅샷을 바로 반환하고, 중복 갱신을 시작하지 않음
+        assertTrue(visualize(loader).contains("\"v\":1"));
+        assertTrue(refreshStarted.await(1, TimeUnit.SECONDS));
+        assertTrue(visualize(loader).contains("\"v\":1"));
+        assertEquals(2, version.get());
+
+        refreshResult.complete(ByteString.encodeUtf8("{\"status\":\"success\",\"v\":2}"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        String latest = visualize(loader);
+        while (!latest.contains("\"v\":2") && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            latest = visualize(loader);
+        }
+        assertTrue(latest.contains("\"v\":2"));
+    }
+
+    @Test
+    @DisplayName("무효화된 스냅샷은 갱신이 끝나지 않아도 원래 TTL이 지나면 더 이상 반환하지 않음")
+    void invalidateDomain_StaleSnapshot_KeepsOriginalTtl() throws Exception {
+        AtomicInteger version = new AtomicInteger();
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        Supplier<CompletableFuture<ByteString>> loader = () -> {
+            int current = version.incrementAndGet();
+            if (current == 2) {
+                // 백그라운드 갱신은 끝나지 않음
+                refreshStarted.countDown();
+                return new CompletableFuture<>();
+            }
+            return CompletableFuture.completedFuture(
+                    ByteString.encodeUtf8("{\"status\":\"success\",\"v\":" + current + "}"));
+        };
+
+        assertTrue(graphStats(loader).contains("\"v\":1"));
+        Thread.sleep(300);
+
+        cache.invalidateDomain("youtube.com");
+
+        // 무효화 직후에는 기존 스냅샷을 반환하면서 갱신을 시작
+        assertTrue(graphStats(loader).contains("\"v\":1"));
+        assertTrue(refreshStarted.await(1, TimeUnit.SECONDS));
+
+        Thread.sleep(300);
+        assertTrue(graphStats(loader).contains("\"v\":3"));
+    }
+
+    private String graphStats(Supplier<CompletableFuture<ByteString>> loader) throws Exception {
+        return cache.get(SHORT_SWR_TYPE, "youtube.com", "stats", loader, this::isSuccess)
+                .get(1, TimeUnit.SECONDS)
+                .utf8();
+    }
+
+    private String visualize(Supplier<CompletableFuture<ByteString>> loader) throws Exception {
+        return cache.get(SWR_TYPE, "youtube.com", "paths", loader, this::isSuccess)
+                .get(1, TimeUnit.SECONDS)
+                .utf8();
+    }
+
+    private ByteString load(String domain, String key, ByteString response) throws Exception {
+        return cache.get(TYPE, domain, key,
+                () -> {
+                    loads.incrementAndGet();
+                    return CompletableFuture.completedFuture(response);
+                },
+                this::isSuccess).get(1, TimeUnit.SECONDS);
+    }
+
+    private boolean isSuccess(ByteString json) {
+        return json.utf8().contains("success");
+    }
+}
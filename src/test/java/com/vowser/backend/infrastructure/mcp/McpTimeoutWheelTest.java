@@ -0,0 +1,69 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class McpTimeoutWheelTest {
+
+    private McpTimeoutWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new McpTimeoutWheel(Duration.ofMillis(10), 8, "test-timeout-wheel");
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.stop();
+    }
+
+    @Test
+    @DisplayName("지연 시간이 지나면 타임아웃 작업이 실행됨")
+    void schedule_RunsTaskAfterDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(fired::countDown, Duration.ofMillis(50));
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(40));
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 긴 지연도 정확한 라운드에 실행됨")
+    void schedule_LongerThanOneRotation_RunsAfterDelay() throws InterruptedException {
+        CountDownLatch fired = new CountDownLatch(1);
+        long start = System.nanoTime();
+
+        wheel.schedule(fired::countDown, Duration.ofMillis(250));
+
+        assertTrue(fired.await(2, TimeUnit.SECONDS));
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(240));
+    }
+
+    @Test
+    @DisplayName("취소된 타임아웃은 실행되지 않음")
+    void cancel_PreventsTask() throws InterruptedException {
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch marker = new CountDownLatch(1);
+
+        McpTimeoutWheel.Timeout timeout = wheel.schedule(runs::incrementAndGet, Duration.ofMillis(30));
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        wheel.schedule(marker::countDown, Duration.ofMillis(100));
+
+        assertTrue(marker.await(2, TimeUnit.SECONDS));
+        assertEquals(0, runs.get());
+        assertEquals(0, wheel.pendingTimeouts());
+    }
+}
@@ -0,0 +1,494 @@
+package com.vowser.backend.infrastructure.mcp;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.vowser.backend.api.dto.ControlDto;
+import com.vowser.backend.api.dto.mcp.PathSubmission;
+import com.vowser.backend.api.dto.mcp.SavePathResponse;
+import com.vowser.backend.application.service.ControlService;
+import com.vowser.backend.common.exception.ErrorCode;
+import com.vowser.backend.common.exception.McpException;
+import com.vowser.backend.infrastructure.config.McpConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.Response;
+import okhttp3.WebSocket;
+import okhttp3.WebSocketListener;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.ByteString;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 MCP 대역 서버를 상대로 동시 요청/응답 매칭을 검증
+ * 대역 서버는 응답 순서를 임의로 섞어서 돌려줌
+ */
+class McpWebSocketClientConcurrencyTest {
+
+    private static final int REQUEST_COUNT = 2000;
+    private static final int CALLER_THREADS = 32;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final List<WebSocket> serverSockets = new CopyOnWriteArrayList<>();
+    private final Map<WebSocket, AtomicInteger> requestsPerSocket = new ConcurrentHashMap<>();
+    private final AtomicInteger binaryRequests = new AtomicInteger();
+    private final List<String> receivedTypes = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean heldFirstRequest = new AtomicBoolean();
+
+    private final ObjectMapper cborMapper = new ObjectMapper(new CBORFactory());
+    private final List<String> offeredSubprotocols = new CopyOnWriteArrayList<>();
+    private volatile CountDownLatch replyGate = new CountDownLatch(0);
+    private volatile boolean negotiateCbor = false;
+    private volatile CountDownLatch firstRequestGate = null;
+
+    private MockWebServer server;
+    private ExecutorService replyExecutor;
+    private ControlService controlService;
+    private McpWebSocketClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        replyExecutor = Executors.newFixedThreadPool(8);
+
+        server = new MockWebServer();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) {
+                String offered = request.getHeader("Sec-WebSocket-Protocol");
+                offeredSubprotocols.add(String.valueOf(offered));
+
+                MockResponse response = new MockResponse();
+                if (negotiateCbor && offered != null && offered.contains(McpWireFormat.CBOR.subprotocol())) {
+                    response.setHeader("Sec-WebSocket-Protocol", McpWireFormat.CBOR.subprotocol());
+                }
+                return response.withWebSocketUpgrade(new StandInMcpServer());
+            }
+        });
+        server.start();
+
+        controlService = mock(ControlService.class);
+        client = createClient(1);
+    }
+
+    private McpWebSocketClient createClient(int connectionsPerEndpoint) throws InterruptedException {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getAdmission().setMaxQueued(REQUEST_COUNT);
+        return createClient(connectionsPerEndpoint, mcpConfig);
+    }
+
+    private McpWebSocketClient createClient(int connectionsPerEndpoint, McpConfig mcpConfig) throws InterruptedException {
+        return createClient(connectionsPerEndpoint, mcpConfig, List.of(server.url("/ws").toString()));
+    }
+
+    private McpWebSocketClient createClient(int connectionsPerEndpoint, McpConfig mcpConfig, List<String> urls)
+            throws InterruptedException {
+        mcpConfig.getServer().setUrl(urls);
+        mcpConfig.getPool().setConnectionsPerEndpoint(connectionsPerEndpoint);
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        McpResponseCache responseCache = new McpResponseCache(mcpConfig, meterRegistry, null);
+        McpWebSocketClient mcpClient = new McpWebSocketClient(
+                controlService, objectMapper, mcpConfig, meterRegistry, responseCache);
+        mcpClient.connect();
+        awaitConnected(mcpClient, connectionsPerEndpoint * urls.size());
+        return mcpClient;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        replyGate.countDown();
+        if (firstRequestGate != null) {
+            firstRequestGate.countDown();
+        }
+        serverSockets.forEach(socket -> socket.close(1000, null));
+        client.disconnect();
+        replyExecutor.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    @DisplayName("겹쳐서 들어온 검색/저장 요청이 각자 자신의 응답을 받음")
+    void concurrentRequests_EachCallerReceivesOwnResponse() throws Exception {
+        ExecutorService callers = Executors.newFixedThreadPool(CALLER_THREADS);
+        List<CompletableFuture<Void>> checks = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < REQUEST_COUNT; i++) {
+                final int index = i;
+                checks.add(CompletableFuture.supplyAsync(() -> index, callers)
+                        .thenCompose(n -> n % 2 == 0 ? verifySearch(n) : verifySave(n)));
+            }
+
+            CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0]))
+                    .get(30, TimeUnit.SECONDS);
+        } finally {
+            callers.shutdownNow();
+        }
+
+        verify(controlService, never()).relayMcpResponse(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("requestId가 없는 메시지는 클라이언트로 중계")
+    void messageWithoutRequestId_IsRelayedToClient() {
+        String pushMessage = "{\"type\":\"search_new_path\",\"status\":\"success\",\"data\":{}}";
+
+        serverSockets.get(0).send(pushMessage);
+
+        verify(controlService, timeout(5000)).relayMcpResponse(isNull(), eq(pushMessage));
+    }
+
+    @Test
+    @DisplayName("sessionId가 담긴 비동기 응답은 해당 세션으로 중계")
+    void messageWithSessionId_IsRelayedToThatSession() {
+        String pushMessage = "{\"type\":\"search_new_path\",\"status\":\"success\","
+                + "\"data\":{\"query\":\"검색\",\"sessionId\":\"session-b\"}}";
+
+        serverSockets.get(0).send(pushMessage);
+
+        verify(controlService, timeout(5000)).relayMcpResponse("session-b", pushMessage);
+    }
+
+    @Test
+    @DisplayName("대기 중인 요청이 없는 requestId 응답은 중계하지 않음")
+    void messageWithUnknownRequestId_IsDropped() throws Exception {
+        serverSockets.get(0).send("{\"type\":\"search_new_path\",\"requestId\":\"unknown-1\",\"data\":{}}");
+
+        // 뒤따르는 정상 요청이 처리되었다면 앞선 메시지도 이미 처리된 상태
+        verifySearch(1).get(5, TimeUnit.SECONDS);
+
+        verify(controlService, never()).relayMcpResponse(any(), anyString());
+    }
+
+    @Test
+    @DisplayName("연결 풀의 모든 연결로 요청이 분산됨")
+    void pooledConnections_ShareLoad() throws Exception {
+        int poolSize = 4;
+        serverSockets.forEach(socket -> socket.close(1000, null));
+        serverSockets.clear();
+        client.disconnect();
+        client = createClient(poolSize);
+
+        List<CompletableFuture<Void>> checks = new ArrayList<>();
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            checks.add(verifySearch(i));
+        }
+        CompletableFuture.allOf(checks.toArray(new CompletableFuture<?>[0]))
+                .get(30, TimeUnit.SECONDS);
+
+        assertEquals(poolSize, serverSockets.size());
+        serverSockets.forEach(socket ->
+                assertTrue(requestsPerSocket.get(socket).get() > 0, "요청을 받지 못한 연결이 있음"));
+    }
+
+    @Test
+    @DisplayName("처리 슬롯과 대기열이 모두 차면 즉시 MCP_OVERLOADED로 거절")
+    void admission_QueueFull_RejectsImmediately() throws Exception {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getAdmission().setMaxInFlightPerConnection(1);
+        mcpConfig.getAdmission().setMaxQueued(1);
+        recreateClient(mcpConfig);
+        replyGate = new CountDownLatch(1);
+
+        CompletableFuture<Void> inFlight = verifySearch(1);
+        CompletableFuture<Void> queued = verifySearch(2);
+        CompletableFuture<String> rejected = client.searchPath("query-3", 3, null);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> rejected.get(1, TimeUnit.SECONDS));
+        McpException cause = assertInstanceOf(McpException.class, failure.getCause());
+        assertEquals(ErrorCode.MCP_OVERLOADED, cause.getErrorCode());
+
+        replyGate.countDown();
+        CompletableFuture.allOf(inFlight, queued).get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("대기 시간 안에 슬롯을 얻지 못한 요청은 MCP_OVERLOADED로 실패")
+    void admission_QueueTimeout_FailsWaitingRequest() throws Exception {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getAdmission().setMaxInFlightPerConnection(1);
+        mcpConfig.getAdmission().setQueueTimeout(Duration.ofMillis(200));
+        recreateClient(mcpConfig);
+        replyGate = new CountDownLatch(1);
+
+        CompletableFuture<Void> inFlight = verifySearch(1);
+        CompletableFuture<String> queued = client.searchPath("query-2", 3, null);
+
+        ExecutionException failure = assertThrows(ExecutionException.class, () -> queued.get(5, TimeUnit.SECONDS));
+        McpException cause = assertInstanceOf(McpException.class, failure.getCause());
+        assertEquals(ErrorCode.MCP_OVERLOADED, cause.getErrorCode());
+
+        replyGate.countDown();
+        inFlight.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("처리 중인 동일 검색은 MCP 요청 하나를 공유")
+    void identicalConcurrentSearches_ShareOneRequest() throws Exception {
+        replyGate = new CountDownLatch(1);
+        int callers = 50;
+
+        List<CompletableFuture<String>> responses = new ArrayList<>();
+        for (int i = 0; i < callers; i++) {
+            String query = i % 2 == 0 ? "유튜브에서 음악 찾기" : "  유튜브에서   음악 찾기 ";
+            responses.add(client.searchPath(query, 3, null));
+        }
+        CompletableFuture<String> differentLimit = client.searchPath("유튜브에서 음악 찾기", 5, null);
+
+        replyGate.countDown();
+        CompletableFuture.allOf(responses.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+        differentLimit.get(5, TimeUnit.SECONDS);
+
+        for (CompletableFuture<String> response : responses) {
+            assertEquals("유튜브에서 음악 찾기", readTree(response.get()).path("data").path("query").asText().trim());
+        }
+        int sent = requestsPerSocket.values().stream().mapToInt(AtomicInteger::get).sum();
+        assertEquals(2, sent);
+    }
+
+    @Test
+    @DisplayName("서버가 CBOR를 선택하면 바이너리 프레임으로 요청/응답을 주고받음")
+    void cborNegotiated_RequestsUseBinaryFrames() throws Exception {
+        negotiateCbor = true;
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getWire().setFormat(McpWireFormat.CBOR);
+        recreateClient(mcpConfig);
+
+        verifySearch(1).get(5, TimeUnit.SECONDS);
+        verifySave(2).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, binaryRequests.get());
+    }
+
+    @Test
+    @DisplayName("서버가 서브프로토콜을 고르지 않으면 JSON으로 동작")
+    void cborNotSupportedByServer_FallsBackToJson() throws Exception {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getWire().setFormat(McpWireFormat.CBOR);
+        recreateClient(mcpConfig);
+
+        verifySearch(1).get(5, TimeUnit.SECONDS);
+
+        assertTrue(offeredSubprotocols.get(offeredSubprotocols.size() - 1)
+                .contains(McpWireFormat.CBOR.subprotocol()));
+        assertEquals(0, binaryRequests.get());
+    }
+
+    @Test
+    @DisplayName("첫 검색 응답이 헤지 대기 시간을 넘기면 다른 엔드포인트의 응답을 먼저 사용")
+    void hedgedSearch_SlowReplica_UsesOtherEndpoint() throws Exception {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getHedge().setEnabled(true);
+        mcpConfig.getHedge().setInitialDelay(Duration.ofMillis(50));
+        serverSockets.forEach(socket -> socket.close(1000, null));
+        serverSockets.clear();
+        client.disconnect();
+        firstRequestGate = new CountDownLatch(1);
+        client = createClient(1, mcpConfig,
+                List.of(server.url("/ws").toString(), server.url("/ws-replica").toString()));
+
+        long startedAt = System.nanoTime();
+        verifySearch(1).get(2, TimeUnit.SECONDS);
+
+        assertTrue(System.nanoTime() - startedAt < TimeUnit.SECONDS.toNanos(1), "헤지 응답을 기다리지 않음");
+        serverSockets.forEach(socket -> assertEquals(1, requestsPerSocket.get(socket).get()));
+        firstRequestGate.countDown();
+    }
+
+    @Test
+    @DisplayName("배치 저장이 꺼져 있으면 기여모드 데이터를 기존 save_contribution_path 메시지로 보냄")
+    void saveContributions_BatchDisabled_UsesLegacyMessage() throws Exception {
+        Map<String, ControlDto.ContributionMessage> contributions = contributions("key-1", "key-2");
+
+        Set<String> saved = client.saveContributions(contributions).get(5, TimeUnit.SECONDS);
+
+        assertEquals(Set.of("key-1", "key-2"), saved);
+        waitUntil(() -> receivedTypes.size() >= 2);
+        assertEquals(List.of("save_contribution_path", "save_contribution_path"), receivedTypes);
+    }
+
+    @Test
+    @DisplayName("배치 저장이 켜져 있으면 기여모드 데이터를 한 번의 save_contribution_paths 요청으로 보내고 응답을 기다림")
+    void saveContributions_BatchEnabled_SendsSingleRequest() throws Exception {
+        McpConfig mcpConfig = new McpConfig();
+        mcpConfig.getSaveBatch().setEnabled(true);
+        recreateClient(mcpConfig);
+        receivedTypes.clear();
+
+        Set<String> saved = client.saveContributions(contributions("key-1", "key-2")).get(5, TimeUnit.SECONDS);
+
+        assertEquals(Set.of("key-1", "key-2"), saved);
+        assertEquals(List.of("save_contribution_paths"), receivedTypes);
+    }
+
+    private static Map<String, ControlDto.ContributionMessage> contributions(String... contributionIds) {
+        Map<String, ControlDto.ContributionMessage> contributions = new LinkedHashMap<>();
+        for (String contributionId : contributionIds) {
+            ControlDto.ContributionMessage message = new ControlDto.ContributionMessage();
+            message.setSessionId("session-" + contributionId);
+            message.setSteps(List.of(new ControlDto.ContributionStep(
+                    "https://example.com", "검색", "click", "#q", Map.of(), 1L)));
+            contributions.put(contributionId, message);
+        }
+        return contributions;
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    private void recreateClient(McpConfig mcpConfig) throws InterruptedException {
+        serverSockets.forEach(socket -> socket.close(1000, null));
+        serverSockets.clear();
+        client.disconnect();
+        client = createClient(1, mcpConfig);
+    }
+
+    private CompletableFuture<Void> verifySearch(int index) {
+        String query = "query-" + index;
+        return client.searchPath(query, 3, null).thenAccept(json -> {
+            JsonNode response = readTree(json);
+            assertEquals(query, response.path("data").path("query").asText());
+        });
+    }
+
+    private CompletableFuture<Void> verifySave(int index) {
+        String taskIntent = "task-" + index;
+        PathSubmission submission = PathSubmission.builder()
+                .sessionId("session-" + index)
+                .taskIntent(taskIntent)
+                .domain("example.com")
+                .steps(List.of())
+                .build();
+
+        return client.savePath(submission).thenAccept(response -> {
+            SavePathResponse.SavePathResult result = response.getData().getResult();
+            assertEquals(taskIntent, result.getTaskIntent());
+        });
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void awaitConnected(McpWebSocketClient mcpClient, int expectedSockets) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while ((!mcpClient.isConnected() || serverSockets.size() < expectedSockets)
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(mcpClient.isConnected(), "MCP 대역 서버에 연결되지 않음");
+    }
+
+    /**
+     * 요청 데이터를 그대로 되돌려 주는 MCP 서버 대역
+     */
+    private class StandInMcpServer extends WebSocketListener {
+
+        @Override
+        public void onOpen(WebSocket webSocket, Response response) {
+            requestsPerSocket.put(webSocket, new AtomicInteger());
+            serverSockets.add(webSocket);
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, String text) {
+            requestsPerSocket.get(webSocket).incrementAndGet();
+            receivedTypes.add(readTree(text).path("type").asText());
+            CountDownLatch gate = firstRequestGate;
+            CountDownLatch held = gate != null && heldFirstRequest.compareAndSet(false, true) ? gate : replyGate;
+            replyExecutor.execute(() -> {
+                try {
+                    held.await();
+                    Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+                    webSocket.send(buildReply(objectMapper.readTree(text)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        @Override
+        public void onMessage(WebSocket webSocket, ByteString bytes) {
+            requestsPerSocket.get(webSocket).incrementAndGet();
+            binaryRequests.incrementAndGet();
+            replyExecutor.execute(() -> {
+                try {
+                    replyGate.await();
+                    JsonNode reply = objectMapper.readTree(buildReply(cborMapper.readTree(bytes.toByteArray())));
+                    webSocket.send(ByteString.of(cborMapper.writeValueAsBytes(reply)));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+
+        @Override
+        public void onClosing(WebSocket webSocket, int code, String reason) {
+            webSocket.close(1000, null);
+        }
+
+        private String buildReply(JsonNode request) throws Exception {
+            String type = request.path("type").asText();
+            JsonNode data = request.path("data");
+
+            Object replyData = switch (type) {
+                case "search_new_path" -> Map.of("query", data.path("query").asText());
+                case "save_new_path" -> Map.of(
+                        "message", "saved",
+                        "result", Map.of(
+                                "status", "saved",
+                                "task_intent", data.path("task_intent").asText()
+                        )
+                );
+                default -> Map.of();
+            };
+
+            return objectMapper.writeValueAsString(Map.of(
+                    "type", type,
+                    "requestId", request.path("requestId").asText(),
+                    "status", "success",
+                    "data", replyData
+            ));
+        }
+    }
+}